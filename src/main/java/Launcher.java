@@ -1,10 +1,29 @@
+import java.util.Arrays;
+
+import echo.BatchRunner;
+import echo.HttpApiServer;
+import echo.LineProtocolServer;
 import javafx.application.Application;
 
 /**
  * A launcher class to workaround classpath issues.
+ * Starts the GUI, runs commands without it when the first argument is "--headless", or serves
+ * them over HTTP when it is "--serve" and over a socket when it is "--listen".
  */
 public class Launcher {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(BatchRunner.OPTION_HEADLESS)) {
+            BatchRunner.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals(HttpApiServer.OPTION_SERVE)) {
+            HttpApiServer.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals(LineProtocolServer.OPTION_LISTEN)) {
+            LineProtocolServer.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Application.launch(Main.class, args);
     }
 }
@@ -2,6 +2,7 @@ import java.io.IOException;
 
 import echo.Echo;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.layout.AnchorPane;
@@ -24,10 +25,18 @@ public class Main extends Application {
             AnchorPane ap = fxmlLoader.load();
             Scene scene = new Scene(ap);
             stage.setScene(scene);
-            fxmlLoader.<MainWindow>getController().setEcho(echo); // inject the Echo instance
+            MainWindow controller = fxmlLoader.getController();
+            controller.setEcho(echo); // inject the Echo instance
+            echo.startReminders(message -> Platform.runLater(() -> controller.showReminder(message)));
             stage.show();
         } catch (IOException e) {
             System.err.println("Error loading MainWindow FXML: " + e.getMessage());
         }
     }
+
+    @Override
+    public void stop() {
+        echo.stopReminders();
+        echo.awaitPending();
+    }
 }
@@ -1,4 +1,5 @@
 import echo.Echo;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.ScrollPane;
@@ -42,15 +43,23 @@ public class MainWindow extends AnchorPane {
     /**
      * Creates two dialog boxes, one echoing user input and the other containing Echo's reply,
      * then appends them to the dialog container. Clears the user input after processing.
+     * The reply is computed off the JavaFX thread, so saving the tasks doesn't freeze the window.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
-        String response = echo.getResponse(input);
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getEchoDialog(response, echoImage)
-        );
+        dialogContainer.getChildren().add(DialogBox.getUserDialog(input, userImage));
         userInput.clear();
+        echo.getResponseAsync(input).thenAccept(response -> Platform.runLater(() ->
+                dialogContainer.getChildren().add(DialogBox.getEchoDialog(response, echoImage))));
+    }
+
+    /**
+     * Shows a reminder from Echo in the dialog container. Must be called on the JavaFX thread.
+     *
+     * @param message The reminder message.
+     */
+    public void showReminder(String message) {
+        dialogContainer.getChildren().add(DialogBox.getEchoDialog(message, echoImage));
     }
 }
@@ -0,0 +1,288 @@
+package echo;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import echo.exception.EchoException;
+import echo.util.InputValidator;
+
+/**
+ * Runs Echo without the GUI, reading one command per line from a script file or standard input.
+ * Responses go to a buffered writer that is flushed once at the end of the run, and the tasks
+ * are saved at checkpoints and at the end of the run instead of after every command.
+ *
+ * With more than one worker, commands run in a pipeline: worker threads parse them and create
+ * the tasks they add, the calling thread applies them to the task list one at a time in input
+ * order, and a separate thread builds and writes the responses.
+ *
+ * Usage: {@code --headless [SCRIPT] [--checkpoint N] [--workers N]}, where the checkpoint is the
+ * number of commands between saves.
+ */
+public class BatchRunner {
+    public static final String OPTION_HEADLESS = "--headless";
+    private static final String OPTION_CHECKPOINT = "--checkpoint";
+    private static final String OPTION_WORKERS = "--workers";
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final int BATCH_SIZE = 256;
+    private static final int MAX_PENDING_BATCHES = 64;
+    private static final int MAX_PENDING_RESPONSES = 4096;
+    private static final Supplier<String> END_OF_RESPONSES = () -> null;
+    private static final String USAGE = "Usage: " + OPTION_HEADLESS + " [SCRIPT] [" + OPTION_CHECKPOINT + " N] ["
+            + OPTION_WORKERS + " N]";
+
+    private final Echo echo;
+    private final int checkpointInterval;
+    private final int workerCount;
+
+    /**
+     * Constructs a BatchRunner.
+     *
+     * @param echo               The Echo instance that executes the commands.
+     * @param checkpointInterval The number of commands between saves, or 0 to save only at the end.
+     */
+    public BatchRunner(Echo echo, int checkpointInterval) {
+        this(echo, checkpointInterval, 1);
+    }
+
+    /**
+     * Constructs a BatchRunner that prepares commands on several worker threads.
+     *
+     * @param echo               The Echo instance that executes the commands.
+     * @param checkpointInterval The number of commands between saves, or 0 to save only at the end.
+     * @param workerCount        The number of threads that prepare commands, or 1 to run every stage
+     *                           on the calling thread.
+     */
+    public BatchRunner(Echo echo, int checkpointInterval, int workerCount) {
+        assert echo != null : "Echo cannot be null";
+        assert checkpointInterval >= 0 : "Checkpoint interval cannot be negative";
+        assert workerCount > 0 : "Worker count must be positive";
+        this.echo = echo;
+        this.checkpointInterval = checkpointInterval;
+        this.workerCount = workerCount;
+    }
+
+    /**
+     * Executes every command from the reader and writes each response, followed by a line
+     * break, to the writer.
+     *
+     * @param in  The commands, one per line.
+     * @param out The sink for the responses. It is flushed once, after the last command.
+     * @return The number of commands executed.
+     * @throws IOException If reading the commands, writing the responses or saving the tasks fails.
+     */
+    public long run(BufferedReader in, Writer out) throws IOException {
+        echo.setAutoSave(false);
+        try {
+            long count = workerCount > 1 ? runPipelined(in, out) : runSequentially(in, out);
+            echo.save();
+            out.flush();
+            return count;
+        } finally {
+            echo.setAutoSave(true);
+        }
+    }
+
+    private long runSequentially(BufferedReader in, Writer out) throws IOException {
+        long count = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            echo.writeResponse(line, out);
+            out.write('\n');
+            count++;
+            saveAtCheckpoint(count);
+        }
+        return count;
+    }
+
+    /**
+     * Reads the commands in batches and hands each batch to a worker to prepare. Once enough
+     * batches are pending, the oldest is applied, so the workers stay ahead of this thread
+     * while only a bounded number of commands are held in memory.
+     */
+    private long runPipelined(BufferedReader in, Writer out) throws IOException {
+        ExecutorService preparers = Executors.newFixedThreadPool(workerCount);
+        BlockingQueue<Supplier<String>> responses = new ArrayBlockingQueue<>(MAX_PENDING_RESPONSES);
+        ResponseWriter responseWriter = new ResponseWriter(responses, out);
+        Thread writerThread = new Thread(responseWriter, "echo-responses");
+        writerThread.start();
+        Deque<Future<List<PreparedCommand>>> pending = new ArrayDeque<>();
+        long count = 0;
+        try {
+            List<String> batch = readBatch(in);
+            while (!batch.isEmpty() || !pending.isEmpty()) {
+                if (!batch.isEmpty()) {
+                    pending.add(preparers.submit(prepareAll(batch)));
+                    batch = readBatch(in);
+                }
+                if (batch.isEmpty() || pending.size() >= MAX_PENDING_BATCHES) {
+                    for (PreparedCommand command : pending.remove().get()) {
+                        responses.put(echo.apply(command));
+                        count++;
+                        saveAtCheckpoint(count);
+                    }
+                }
+            }
+            responses.put(END_OF_RESPONSES);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while running commands");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Preparing a command failed", e.getCause());
+        } finally {
+            preparers.shutdownNow();
+            stopWriter(writerThread);
+        }
+        responseWriter.rethrowError();
+        return count;
+    }
+
+    /**
+     * Stops the response writer if the run ended early, e.g. because a checkpoint could not be
+     * saved, and waits for it, so it is not left blocked on the queue forever.
+     */
+    private static void stopWriter(Thread writerThread) {
+        boolean wasInterrupted = Thread.interrupted();
+        writerThread.interrupt();
+        while (writerThread.isAlive()) {
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                wasInterrupted = true;
+            }
+        }
+        if (wasInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Callable<List<PreparedCommand>> prepareAll(List<String> batch) {
+        return () -> {
+            List<PreparedCommand> prepared = new ArrayList<>(batch.size());
+            for (String input : batch) {
+                prepared.add(echo.prepare(input));
+            }
+            return prepared;
+        };
+    }
+
+    private static List<String> readBatch(BufferedReader in) throws IOException {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        String line;
+        while (batch.size() < BATCH_SIZE && (line = in.readLine()) != null) {
+            batch.add(line);
+        }
+        return batch;
+    }
+
+    private void saveAtCheckpoint(long count) throws IOException {
+        if (checkpointInterval > 0 && count % checkpointInterval == 0) {
+            echo.save();
+        }
+    }
+
+    /**
+     * Runs the commands from the script named in the arguments, or from standard input.
+     *
+     * @param args The arguments after {@value #OPTION_HEADLESS}.
+     */
+    public static void main(String[] args) {
+        try {
+            String script = null;
+            int checkpointInterval = 0;
+            int workerCount = 1;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(OPTION_CHECKPOINT) && i + 1 < args.length) {
+                    checkpointInterval = InputValidator.requirePositiveInteger(args[++i], "Checkpoint interval");
+                } else if (args[i].equals(OPTION_WORKERS) && i + 1 < args.length) {
+                    workerCount = InputValidator.requirePositiveInteger(args[++i], "Worker count");
+                } else if (script == null && !args[i].startsWith("--")) {
+                    script = args[i];
+                } else {
+                    throw new EchoException(USAGE);
+                }
+            }
+
+            BatchRunner runner = new BatchRunner(new Echo(Echo.FILE_PATH), checkpointInterval, workerCount);
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8),
+                    OUTPUT_BUFFER_SIZE);
+            try (BufferedReader in = script == null
+                    ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                    : Files.newBufferedReader(Paths.get(script), StandardCharsets.UTF_8)) {
+                runner.run(in, out);
+            }
+        } catch (EchoException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Error running script: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Builds each response and writes it to the sink, in the order the commands were applied.
+     * After a write fails, the remaining responses are still taken from the queue so the thread
+     * applying commands never blocks, and the error is reported at the end of the run.
+     */
+    private static class ResponseWriter implements Runnable {
+        private final BlockingQueue<Supplier<String>> responses;
+        private final Writer out;
+        private IOException error;
+
+        private ResponseWriter(BlockingQueue<Supplier<String>> responses, Writer out) {
+            this.responses = responses;
+            this.out = out;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Supplier<String> response;
+                while ((response = responses.take()) != END_OF_RESPONSES) {
+                    write(response.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void write(String response) {
+            if (error != null) {
+                return;
+            }
+            try {
+                out.write(response);
+                out.write('\n');
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+
+        private void rethrowError() throws IOException {
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+}
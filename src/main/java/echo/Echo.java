@@ -1,28 +1,56 @@
 package echo;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+import echo.command.CommandHandler;
+import echo.command.CommandRegistry;
+import echo.command.TaskFactory;
 import echo.exception.EchoException;
+import echo.parser.ParsedCommand;
 import echo.parser.Parser;
+import echo.query.Query;
+import echo.query.QueryCompiler;
+import echo.reminder.ReminderScheduler;
+import echo.schedule.Conflict;
+import echo.schedule.ConflictDetector;
 import echo.storage.Storage;
 import echo.task.Deadline;
 import echo.task.Event;
+import echo.task.Recurrence;
 import echo.task.Task;
 import echo.task.Todo;
+import echo.tasklist.ConcurrentTaskList;
+import echo.tasklist.SortKey;
+import echo.tasklist.SortedView;
 import echo.tasklist.TaskList;
+import echo.tasklist.TaskStats;
 import echo.util.DateTimeParser;
 import echo.util.InputValidator;
+import echo.util.ParseResult;
+import echo.util.RelativeDateResolver;
 import echo.util.StringFormatter;
+import echo.util.StringPool;
 
 /**
  * Main class for the Echo task management chatbot.
  * Handles initialization, command processing, and coordination between components.
  */
 public class Echo {
-    private static final String FILE_PATH = "./data/echo.txt";
+    static final String FILE_PATH = "./data/echo.txt";
     private static final String COMMAND_BYE = "bye";
     private static final String COMMAND_CLEAR = "clear";
     private static final String COMMAND_DEADLINE = "deadline";
@@ -33,29 +61,141 @@ public class Echo {
     private static final String COMMAND_MARK = "mark";
     private static final String COMMAND_TODO = "todo";
     private static final String COMMAND_UNMARK = "unmark";
+    private static final String COMMAND_UNDO = "undo";
+    private static final String COMMAND_REDO = "redo";
+    private static final String COMMAND_QUERY = "query";
+    private static final String COMMAND_DEDUPE = "dedupe";
+    private static final String COMMAND_STATS = "stats";
+    private static final String COMMAND_CONFLICTS = "conflicts";
+    private static final String ALIAS_LIST = "ls";
+    private static final String ALIAS_DEADLINE = "dl";
+    private static final String ALIAS_DELETE = "rm";
+    private static final String SELECT_ALL = "all";
+    private static final String SELECT_DONE = "done";
+    private static final String SELECT_UNDONE = "undone";
+    private static final String OPTION_PAGE = "--page";
+    private static final String OPTION_SIZE = "--size";
+    private static final String OPTION_FUZZY = "--fuzzy";
+    private static final String OPTION_TOP = "--top";
+    private static final String OPTION_SORT = "--sort";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_FUZZY_DISTANCE = 3;
+    private static final int MAX_POOLED_STRINGS = 1 << 16;
+    private static final Duration REMINDER_LEAD_TIME = Duration.ofMinutes(15);
+    private static final Set<String> STREAMED_COMMANDS = Set.of(COMMAND_LIST, COMMAND_FIND);
+    private static final Set<String> READ_ONLY_COMMANDS = Set.of(COMMAND_BYE, COMMAND_LIST, COMMAND_FIND,
+            COMMAND_QUERY, COMMAND_STATS, COMMAND_CONFLICTS);
+    private static final Executor DEFAULT_ASYNC_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "echo-async");
+        thread.setDaemon(true);
+        return thread;
+    });
     private final Storage storage;
+    private final Object writeLock = new Object();
+    private final Object asyncOrderLock = new Object();
+    private final Map<String, TaskFactory> taskFactories = new HashMap<>();
+    private final RelativeDateResolver relativeDates = new RelativeDateResolver();
+    private final StringPool taskStrings = new StringPool(MAX_POOLED_STRINGS);
+    private final CommandRegistry commands = createCommands();
     private TaskList tasks;
+    private ReminderScheduler reminders;
+    private boolean isAutoSave = true;
+    private boolean hasUnsavedChanges;
+    private volatile Executor asyncExecutor = DEFAULT_ASYNC_EXECUTOR;
+    private CompletableFuture<?> lastAsyncCommand = CompletableFuture.completedFuture(null);
+
     /**
      * Constructs an Echo instance with the specified file path for data storage.
      *
      * @param filePath The path to the data file for saving and loading tasks.
      */
     public Echo(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs an Echo instance that can optionally be shared between threads.
+     * In concurrent mode, read-only commands (list, find) run in parallel on snapshots of the
+     * task list while commands that modify tasks are executed one at a time.
+     *
+     * @param filePath     The path to the data file for saving and loading tasks.
+     * @param isConcurrent Whether getResponse may be called from several threads at once.
+     */
+    public Echo(String filePath, boolean isConcurrent) {
         assert filePath != null : "File path cannot be null";
         storage = new Storage(filePath);
         try {
-            tasks = new TaskList(storage.load());
+            tasks = isConcurrent ? new ConcurrentTaskList(storage.load()) : new TaskList(storage.load());
             if (tasks.size() > 0) {
-                System.out.println("Loaded " + tasks.size() + " task(s) from file.\n");
+                System.err.println("Loaded " + tasks.size() + " task(s) from file.\n");
             }
         } catch (IOException e) {
-            tasks = new TaskList();
+            tasks = isConcurrent ? new ConcurrentTaskList() : new TaskList();
         }
 
         assert storage != null : "Storage must be initialized";
         assert tasks != null : "TaskList must be initialized";
     }
 
+    /**
+     * Starts sending reminders for tasks that are coming up, shortly before they are due.
+     * Reminders follow later changes to the task list and are passed to the notifier from a
+     * background thread.
+     *
+     * @param notifier The callback that receives each reminder message.
+     */
+    public void startReminders(Consumer<String> notifier) {
+        synchronized (writeLock) {
+            if (reminders != null) {
+                return;
+            }
+            reminders = new ReminderScheduler(REMINDER_LEAD_TIME, LocalDateTime.now(),
+                    reminder -> notifier.accept(reminder.getMessage()));
+            tasks.attachListener(reminders);
+            reminders.start();
+        }
+    }
+
+    /**
+     * Turns saving after every change on or off.
+     * While it is off, changes are only written to the data file by {@link #save()}, so a batch of
+     * commands costs one save instead of one per command.
+     *
+     * @param isAutoSave Whether to save after every change.
+     */
+    public void setAutoSave(boolean isAutoSave) {
+        synchronized (writeLock) {
+            this.isAutoSave = isAutoSave;
+        }
+    }
+
+    /**
+     * Writes any changes that have not been saved yet to the data file.
+     *
+     * @throws IOException If there's an error writing to the file.
+     */
+    public void save() throws IOException {
+        synchronized (writeLock) {
+            if (hasUnsavedChanges) {
+                storage.save(tasks);
+                hasUnsavedChanges = false;
+            }
+        }
+    }
+
+    /**
+     * Stops sending reminders. They can be started again with {@link #startReminders(Consumer)}.
+     */
+    public void stopReminders() {
+        synchronized (writeLock) {
+            if (reminders != null) {
+                reminders.stop();
+                tasks.removeListener(reminders);
+                reminders = null;
+            }
+        }
+    }
+
     /**
      * Generates a response for the user's input without using the UI.
      * This method is used by the GUI to get responses as strings.
@@ -64,223 +204,577 @@ public class Echo {
      * @return The response string from Echo.
      */
     public String getResponse(String input) {
+        return apply(prepare(input)).get();
+    }
+
+    /**
+     * Generates a response for the user's input without blocking the calling thread.
+     * Inputs are parsed in parallel on the async executor but applied to the task list one at a
+     * time, in the order this method was called, so later commands see the effect of earlier ones.
+     * Saving the tasks happens on the executor too. Calls to {@link #getResponse(String)} are not
+     * ordered with these calls, so an embedder should use one or the other.
+     *
+     * @param input The user's input command.
+     * @return A future completed with the response string from Echo. It is never completed exceptionally.
+     */
+    public CompletableFuture<String> getResponseAsync(String input) {
+        Executor executor = asyncExecutor;
+        CompletableFuture<PreparedCommand> prepared = CompletableFuture.supplyAsync(() -> prepare(input), executor);
+        CompletableFuture<Supplier<String>> applied;
+        synchronized (asyncOrderLock) {
+            applied = prepared.thenCombineAsync(lastAsyncCommand, (command, previous) -> apply(command), executor);
+            lastAsyncCommand = applied;
+        }
+        return applied.thenApply(Supplier::get);
+    }
+
+    /**
+     * Waits until every command passed to {@link #getResponseAsync(String)} so far has been
+     * applied and saved. Call it before exiting, since the default executor's threads do not keep
+     * the program running.
+     */
+    public void awaitPending() {
+        CompletableFuture<?> last;
+        synchronized (asyncOrderLock) {
+            last = lastAsyncCommand;
+        }
+        last.handle((result, error) -> null).join();
+    }
+
+    /**
+     * Sets the executor that runs the work of {@link #getResponseAsync(String)}.
+     * By default, a shared pool of daemon threads is used.
+     *
+     * @param asyncExecutor The executor for later calls.
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        assert asyncExecutor != null : "Executor cannot be null";
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Does the part of executing an input that does not depend on the task list: parsing the
+     * command and, for commands that add a task, creating the task and resolving its dates.
+     * Safe to call from any thread, in any order.
+     *
+     * @param input The user's input command.
+     * @return The prepared command, to be passed to {@link #apply(PreparedCommand)}.
+     */
+    PreparedCommand prepare(String input) {
         try {
-            String command = Parser.getCommand(input);
-            return executeCommand(command, input);
+            ParsedCommand parsed = resolveCommand(ParsedCommand.parse(input));
+            TaskFactory factory = taskFactories.get(parsed.getCommand());
+            return new PreparedCommand(parsed, factory == null ? null : factory.create(parsed));
+        } catch (Exception e) {
+            return new PreparedCommand(e);
+        }
+    }
+
+    /**
+     * Executes a prepared command against the task list.
+     * Commands that change the tasks must be applied in the order the user gave them. The
+     * returned response is built when it is requested, which may happen on another thread.
+     *
+     * @param prepared The command returned by {@link #prepare(String)}.
+     * @return The response to the command.
+     */
+    Supplier<String> apply(PreparedCommand prepared) {
+        Supplier<ParseResult<String>> response = applyForResult(prepared);
+        return () -> toText(response.get());
+    }
+
+    /**
+     * Executes a prepared command like {@link #apply(PreparedCommand)}, but keeps whether the
+     * command was carried out or rejected with an error message.
+     */
+    private Supplier<ParseResult<String>> applyForResult(PreparedCommand prepared) {
+        try {
+            if (prepared.getError() != null) {
+                throw prepared.getError();
+            }
+            ParseResult<Task> task = prepared.getTask();
+            if (task != null && !task.isSuccess()) {
+                ParseResult<String> failure = ParseResult.failure(task.getErrorMessage());
+                return () -> failure;
+            }
+            ParsedCommand parsed = prepared.getCommand();
+            if (READ_ONLY_COMMANDS.contains(parsed.getCommand())) {
+                ParseResult<String> response = executeCommand(parsed);
+                return () -> response;
+            }
+            synchronized (writeLock) {
+                try {
+                    if (task != null) {
+                        Supplier<String> added = addTaskDeferred(task.getValue());
+                        return () -> ParseResult.success(added.get());
+                    }
+                    ParseResult<String> response = executeCommand(parsed);
+                    return () -> response;
+                } finally {
+                    tasks.commit();
+                }
+            }
         } catch (EchoException e) {
-            return e.getMessage();
+            ParseResult<String> failure = ParseResult.failure(e.getMessage());
+            return () -> failure;
         } catch (IOException e) {
-            return "Error saving to file: " + e.getMessage();
+            ParseResult<String> failure = ParseResult.failure("Error saving to file: " + e.getMessage());
+            return () -> failure;
         } catch (Exception e) {
-            return "Uh oh! Something unexpected happened: " + e.getMessage();
+            ParseResult<String> failure = ParseResult.failure("Uh oh! Something unexpected happened: "
+                    + e.getMessage());
+            return () -> failure;
         }
     }
 
+    private static String toText(ParseResult<String> response) {
+        return response.isSuccess() ? response.getValue() : response.getErrorMessage();
+    }
 
     /**
-     * Executes the appropriate command based on the command string.
+     * Writes the response for the user's input to the given sink.
+     * The list and find commands write their tasks to the sink one at a time instead of
+     * building the whole response in memory first, so the cost of a response grows with
+     * what is written rather than with the size of the task list.
      *
-     * @param command The command string extracted from user input.
-     * @param input   The full user input string.
-     * @return The response string from executing the command.
+     * @param input The user's input command.
+     * @param out   The sink to write the response to.
+     * @return True if the command was carried out, false if the response is an error message,
+     *         e.g. because the input could not be parsed or a task number does not exist.
+     * @throws IOException If writing to the sink fails.
+     */
+    public boolean writeResponse(String input, Appendable out) throws IOException {
+        try {
+            ParsedCommand parsed = resolveCommand(ParsedCommand.parse(input));
+            if (!STREAMED_COMMANDS.contains(parsed.getCommand())) {
+                ParseResult<String> response = applyForResult(prepare(input)).get();
+                out.append(toText(response));
+                return response.isSuccess();
+            }
+            if (parsed.getCommand().equals(COMMAND_LIST)) {
+                writeTaskList(parsed.getInput(), out);
+            } else {
+                writeMatchingTasks(parsed.getInput(), out);
+            }
+            return true;
+        } catch (EchoException e) {
+            out.append(e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Executes the handler registered for the command word.
+     *
+     * @param parsed The user input, with its command word resolved to a command name.
+     * @return The response from executing the command, or the error message for an unknown command.
      * @throws EchoException If the command is invalid or execution fails.
      * @throws IOException   If there's an error saving to file.
      */
-    private String executeCommand(String command, String input) throws EchoException, IOException {
-        switch (command) {
-        case COMMAND_BYE:
-            return "Bye. Hope to see you again soon!";
-        case COMMAND_LIST:
-            return getTaskListString();
-        case COMMAND_MARK:
-            return handleMarkResponse(input);
-        case COMMAND_UNMARK:
-            return handleUnmarkResponse(input);
-        case COMMAND_TODO:
-            return handleTodoResponse(input);
-        case COMMAND_DEADLINE:
-            return handleDeadlineResponse(input);
-        case COMMAND_EVENT:
-            return handleEventResponse(input);
-        case COMMAND_DELETE:
-            return handleDeleteResponse(input);
-        case COMMAND_CLEAR:
-            return handleClearResponse();
-        case COMMAND_FIND:
-            return handleFindResponse(input);
-        default:
-            if (!input.trim().isEmpty()) {
-                throw new EchoException("I don't understand '" + input
-                        + "'. Try: todo, deadline, event, list, mark, or unmark.");
-            }
-            return "";
+    private ParseResult<String> executeCommand(ParsedCommand parsed) throws EchoException, IOException {
+        CommandHandler handler = commands.getHandler(parsed.getCommand());
+        if (handler != null) {
+            return handler.execute(parsed);
+        }
+        String input = parsed.getInput();
+        if (!input.trim().isEmpty()) {
+            return ParseResult.failure("I don't understand '" + input
+                    + "'. Try: todo, deadline, event, list, mark, or unmark.");
         }
+        return ParseResult.success("");
     }
 
     /**
-     * Returns the task list as a formatted string.
+     * Replaces an alias or abbreviation of a command, such as "ls" or "dead", with the command's name.
+     *
+     * @param parsed The user input.
+     * @return The input with its command word resolved, or the input itself for unknown commands.
+     * @throws EchoException If the command word is the prefix of several commands.
+     */
+    private ParsedCommand resolveCommand(ParsedCommand parsed) throws EchoException {
+        String name = commands.resolve(parsed.getCommand());
+        return name == null ? parsed : parsed.withCommand(name);
+    }
+
+    /**
+     * Registers the handler of every command.
+     *
+     * @return The registry used to look up commands.
+     */
+    private CommandRegistry createCommands() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(COMMAND_BYE, parsed -> ParseResult.success("Bye. Hope to see you again soon!"));
+        registry.register(COMMAND_LIST, parsed -> {
+            StringBuilder taskList = new StringBuilder();
+            writeTaskList(parsed.getInput(), taskList);
+            return ParseResult.success(taskList.toString());
+        }, ALIAS_LIST);
+        registry.register(COMMAND_MARK, parsed -> handleMarkResponse(parsed.getInput()));
+        registry.register(COMMAND_UNMARK, parsed -> handleUnmarkResponse(parsed.getInput()));
+        registerTaskCommand(registry, COMMAND_TODO, this::createTodo);
+        registerTaskCommand(registry, COMMAND_DEADLINE, this::createDeadline, ALIAS_DEADLINE);
+        registerTaskCommand(registry, COMMAND_EVENT, this::createEvent);
+        registry.register(COMMAND_DELETE, parsed -> handleDeleteResponse(parsed.getInput()), ALIAS_DELETE);
+        registry.register(COMMAND_CLEAR, false, parsed -> ParseResult.success(handleClearResponse()));
+        registry.register(COMMAND_FIND, parsed -> {
+            StringBuilder matchingTasks = new StringBuilder();
+            writeMatchingTasks(parsed.getInput(), matchingTasks);
+            return ParseResult.success(matchingTasks.toString());
+        });
+        registry.register(COMMAND_QUERY, parsed -> ParseResult.success(handleQueryResponse(parsed.getInput())));
+        registry.register(COMMAND_UNDO, parsed -> ParseResult.success(handleUndoResponse(parsed.getInput())));
+        registry.register(COMMAND_REDO, parsed -> ParseResult.success(handleRedoResponse(parsed.getInput())));
+        registry.register(COMMAND_DEDUPE, false, parsed -> ParseResult.success(handleDedupeResponse()));
+        registry.register(COMMAND_STATS, parsed -> ParseResult.success(handleStatsResponse()));
+        registry.register(COMMAND_CONFLICTS, parsed -> ParseResult.success(handleConflictsResponse(parsed.getInput())));
+        return registry;
+    }
+
+    /**
+     * Registers a command that adds the task created by the factory. The factory is also
+     * remembered so the task can be created in {@link #prepare(String)}.
+     */
+    private void registerTaskCommand(CommandRegistry registry, String name, TaskFactory factory, String... aliases) {
+        registry.register(name, parsed -> ParseResult.success(addTask(factory.create(parsed).orElseThrow())), aliases);
+        taskFactories.put(name, factory);
+    }
+
+    /**
+     * Writes the task list, or the requested page of it, to the given sink.
+     * With "--sort KEY" the tasks are written in due, status or type order, still numbered by
+     * their position in the list so the numbers can be passed to mark, unmark or delete.
      *
      * AI-Assisted: Claude suggested using StringFormatter.formatListItem for consistent
-     * list formatting across the application (also used in handleFindResponse).
+     * list formatting across the application (also used in writeMatchingTasks).
+     *
+     * @param input The full user input string, optionally containing --sort, --page and --size.
+     * @param out   The sink to write the task list to.
+     * @throws EchoException If the sort or page options are invalid.
+     * @throws IOException   If writing to the sink fails.
+     */
+    private void writeTaskList(String input, Appendable out) throws EchoException, IOException {
+        String options = Parser.getDescription(input, COMMAND_LIST);
+        String sort = Parser.extractOption(options, OPTION_SORT);
+        if (sort != null) {
+            writeSortedTaskList(sort, options, out);
+            return;
+        }
+        TaskList view = tasks.snapshot();
+        if (view.size() == 0) {
+            out.append("Your task list is empty!");
+            return;
+        }
+        writePage(view, "Here are the tasks in your list", options, out);
+    }
+
+    private void writeSortedTaskList(String sort, String options, Appendable out) throws EchoException, IOException {
+        SortKey key = SortKey.fromName(sort);
+        if (key == null) {
+            throw new EchoException("I can't sort by '" + sort + "'. Use: list --sort due, status or type");
+        }
+        SortedView view = tasks.getSortedView(key);
+        int[] bounds = getPageBounds(view.size(), options);
+        List<SortedView.Entry> page = view.page(bounds[0], bounds[1] - bounds[0]);
+        if (page.isEmpty()) {
+            out.append("Your task list is empty!");
+            return;
+        }
+        out.append(formatPageHeader("Here are the tasks in your list by " + key.getName(), bounds)).append(":");
+        for (SortedView.Entry entry : page) {
+            out.append('\n').append(StringFormatter.formatListItem(entry.getIndex(), entry.getTask()));
+        }
+    }
+
+    /**
+     * Writes a numbered list of tasks to the given sink, restricted to one page if the options
+     * contain --page or --size. Only the tasks on the page are visited.
+     *
+     * @param view    The tasks to write.
+     * @param header  The line introducing the tasks, without the trailing colon.
+     * @param options The command arguments that may contain --page and --size.
+     * @param out     The sink to write the tasks to.
+     * @throws EchoException If the page options are invalid or the page doesn't exist.
+     * @throws IOException   If writing to the sink fails.
+     */
+    private static void writePage(TaskList view, String header, String options, Appendable out)
+            throws EchoException, IOException {
+        int[] bounds = getPageBounds(view.size(), options);
+        out.append(formatPageHeader(header, bounds)).append(":");
+        Iterator<Task> pageTasks = view.iterator(bounds[0]);
+        for (int i = bounds[0]; i < bounds[1]; i++) {
+            out.append('\n').append(StringFormatter.formatListItem(i, pageTasks.next()));
+        }
+    }
+
+    /**
+     * Returns the range of tasks to show given the --page and --size options, as
+     * {from, to, page number, page count}. Without either option the whole range is returned
+     * with a page number of 0.
      *
-     * @return The formatted task list string.
+     * @throws EchoException If the page options are invalid or the page doesn't exist.
      */
-    private String getTaskListString() {
-        if (tasks.size() == 0) {
-            return "Your task list is empty!";
+    private static int[] getPageBounds(int taskCount, String options) throws EchoException {
+        String page = Parser.extractOption(options, OPTION_PAGE);
+        String size = Parser.extractOption(options, OPTION_SIZE);
+        if (page == null && size == null) {
+            return new int[] {0, taskCount, 0, 1};
+        }
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : InputValidator.requirePositiveInteger(size, "Page size");
+        int pageNum = page == null ? 1 : InputValidator.requirePositiveInteger(page, "Page number");
+        int pageCount = Math.max(taskCount - 1, 0) / pageSize + 1;
+        if (pageNum > pageCount) {
+            throw new EchoException("Page " + pageNum + " doesn't exist. There "
+                    + (pageCount == 1 ? "is 1 page." : "are " + pageCount + " pages."));
         }
-        String taskList = IntStream.range(0, tasks.size())
-                .mapToObj(i -> StringFormatter.formatListItem(i, tasks.get(i)))
-                .collect(Collectors.joining("\n"));
-        return "Here are the tasks in your list:\n" + taskList;
+        int from = (pageNum - 1) * pageSize;
+        return new int[] {from, Math.min(taskCount - from, pageSize) + from, pageNum, pageCount};
+    }
+
+    private static String formatPageHeader(String header, int[] bounds) {
+        return bounds[2] == 0 ? header : header + " (page " + bounds[2] + " of " + bounds[3] + ")";
     }
 
     /**
      * Handles the mark command and returns a response string.
+     * Accepts a single task number, or a selection (e.g. "1-500", "3,7,9-20", "all undone")
+     * which is marked as one batch and saved once.
      *
      * AI-Assisted: Claude Code identified that task number validation was duplicated across
      * mark, unmark, and delete methods. Suggested using InputValidator.requireValidTaskIndex
      * for consistent validation and better error messages.
      *
-     * @param input The user input containing the task number to mark.
-     * @return The response string indicating the task was marked.
+     * @param input The user input containing the task number(s) to mark.
+     * @return The response string indicating the task(s) were marked, or the error message if
+     *         no valid selection was given.
      * @throws EchoException If the task number is invalid or missing.
      * @throws IOException   If there's an error saving to file.
      */
-    private String handleMarkResponse(String input) throws EchoException, IOException {
+    private ParseResult<String> handleMarkResponse(String input) throws EchoException, IOException {
         if (input.equals(COMMAND_MARK) || Parser.getDescription(input, COMMAND_MARK).isEmpty()) {
-            throw new EchoException("Which task should I mark? Use: mark <task number>");
+            return ParseResult.failure("Which task should I mark? Use: mark <task number>");
         }
-        int taskNum = Parser.getTaskNumber(input) - 1;
-        assert taskNum >= -1 : "Task number after parsing should be >= -1";
-        InputValidator.requireValidTaskIndex(taskNum, tasks.size());
-
-        assert tasks.get(taskNum) != null : "Task at valid index should not be null";
-        tasks.get(taskNum).markDone();
-        storage.save(tasks);
-        return "Nice! I've marked this task as done:\n  " + tasks.get(taskNum);
+        ParseResult<int[]> selection = getSelectedTaskNumbers(input, COMMAND_MARK);
+        if (!selection.isSuccess()) {
+            return ParseResult.failure(selection.getErrorMessage());
+        }
+        int[] taskNums = selection.getValue();
+        if (taskNums.length == 0) {
+            return ParseResult.success("There are no matching tasks to mark.");
+        }
+        for (int taskNum : taskNums) {
+            tasks.markDone(taskNum);
+        }
+        saveTasks();
+        if (taskNums.length == 1) {
+            return ParseResult.success("Nice! I've marked this task as done:\n  " + tasks.get(taskNums[0]));
+        }
+        return ParseResult.success("Nice! I've marked " + StringFormatter.formatTaskCount(taskNums.length)
+                + " as done.");
     }
 
     /**
      * Handles the unmark command and returns a response string.
+     * Accepts the same task selections as the mark command.
      *
      * AI-Assisted: Refactored to use InputValidator for consistent task number validation.
      *
-     * @param input The user input containing the task number to unmark.
-     * @return The response string indicating the task was unmarked.
+     * @param input The user input containing the task number(s) to unmark.
+     * @return The response string indicating the task(s) were unmarked, or the error message if
+     *         no valid selection was given.
      * @throws EchoException If the task number is invalid or missing.
      * @throws IOException   If there's an error saving to file.
      */
-    private String handleUnmarkResponse(String input) throws EchoException, IOException {
+    private ParseResult<String> handleUnmarkResponse(String input) throws EchoException, IOException {
         if (input.equals(COMMAND_UNMARK) || Parser.getDescription(input, COMMAND_UNMARK).isEmpty()) {
-            throw new EchoException("Which task should I unmark? Use: unmark <task number>");
+            return ParseResult.failure("Which task should I unmark? Use: unmark <task number>");
         }
-        int taskNum = Parser.getTaskNumber(input) - 1;
-        assert taskNum >= -1 : "Task number after parsing should be >= -1";
-        InputValidator.requireValidTaskIndex(taskNum, tasks.size());
-
-        assert tasks.get(taskNum) != null : "Task at valid index should not be null";
-        tasks.get(taskNum).markNotDone();
-        storage.save(tasks);
-        return "OK, I've marked this task as not done yet:\n  " + tasks.get(taskNum);
+        ParseResult<int[]> selection = getSelectedTaskNumbers(input, COMMAND_UNMARK);
+        if (!selection.isSuccess()) {
+            return ParseResult.failure(selection.getErrorMessage());
+        }
+        int[] taskNums = selection.getValue();
+        if (taskNums.length == 0) {
+            return ParseResult.success("There are no matching tasks to unmark.");
+        }
+        for (int taskNum : taskNums) {
+            tasks.markNotDone(taskNum);
+        }
+        saveTasks();
+        if (taskNums.length == 1) {
+            return ParseResult.success("OK, I've marked this task as not done yet:\n  " + tasks.get(taskNums[0]));
+        }
+        return ParseResult.success("OK, I've marked " + StringFormatter.formatTaskCount(taskNums.length)
+                + " as not done yet.");
     }
 
     /**
-     * Handles the todo command and returns a response string.
+     * Resolves the task selection of a mark, unmark or delete command into task indices.
+     * Besides the numeric selections understood by {@link Parser#getTaskNumbers(String, int)},
+     * accepts "all", "all done" and "all undone".
      *
-     * AI-Assisted: Refactored to use StringFormatter.formatTaskAdded for consistent messaging
-     * with proper pluralization.
+     * @param input   The full user input string.
+     * @param command The command word the selection follows.
+     * @return The selected task indices (0-based), sorted in ascending order without duplicates,
+     *     or an error if the selection is malformed or refers to a task that doesn't exist.
+     */
+    private ParseResult<int[]> getSelectedTaskNumbers(String input, String command) {
+        String[] selector = Parser.splitWords(Parser.getDescription(input, command));
+        if (!selector[0].equals(SELECT_ALL)) {
+            return Parser.tryGetTaskNumbers(input, tasks.size());
+        }
+        if (selector.length == 1) {
+            return ParseResult.success(tasks.getIndices(task -> true));
+        }
+        if (selector.length == 2 && selector[1].equals(SELECT_DONE)) {
+            return ParseResult.success(tasks.getIndices(Task::isDone));
+        }
+        if (selector.length == 2 && selector[1].equals(SELECT_UNDONE)) {
+            return ParseResult.success(tasks.getIndices(task -> !task.isDone()));
+        }
+        return ParseResult.failure("I can only select 'all', 'all done' or 'all undone'.");
+    }
+
+    /**
+     * Creates the task for a todo command.
      *
-     * @param input The full user input string containing the todo command and description.
-     * @return The response string indicating the task was added.
-     * @throws EchoException If the task description is empty.
-     * @throws IOException   If there's an error saving the new task to file.
+     * @param parsed The parsed todo command, containing the description.
+     * @return The new todo, or an error if the task description is empty.
      */
-    private String handleTodoResponse(String input) throws EchoException, IOException {
-        String description = Parser.getDescription(input, COMMAND_TODO);
+    private ParseResult<Task> createTodo(ParsedCommand parsed) {
+        String description = parsed.getArguments();
         if (description.isEmpty()) {
-            throw new EchoException("Hmm, you forgot to tell me what the todo is! Try: todo <description>");
+            return ParseResult.failure("Hmm, you forgot to tell me what the todo is! Try: todo <description>");
         }
-        Task task = new Todo(description);
-        tasks.add(task);
-        storage.save(tasks);
-        return StringFormatter.formatTaskAdded(task.toString(), tasks.size());
+        return ParseResult.success(new Todo(description, taskStrings));
     }
 
     /**
-     * Handles the deadline command and returns a response string.
+     * Creates the task for a deadline command.
      *
-     * AI-Assisted: Refactored to use StringFormatter for consistent task addition messages.
-     *
-     * @param input The full user input string containing the deadline command, description, and date.
-     * @return The response string indicating the task was added.
-     * @throws EchoException If the description or date is missing or invalid.
-     * @throws IOException   If there's an error saving the new task to file.
+     * @param parsed The parsed deadline command, containing the description and date.
+     * @return The new deadline, or an error if the description or date is missing or invalid.
      */
-    private String handleDeadlineResponse(String input) throws EchoException, IOException {
-        String description = Parser.getDescription(input, COMMAND_DEADLINE);
-        String[] parts = Parser.parseDeadline(description);
-        Task task = new Deadline(parts[0], parts[1]);
-        tasks.add(task);
-        storage.save(tasks);
-        return StringFormatter.formatTaskAdded(task.toString(), tasks.size());
+    private ParseResult<Task> createDeadline(ParsedCommand parsed) {
+        ParseResult<String[]> parts = Parser.tryParseDeadline(parsed);
+        if (!parts.isSuccess()) {
+            return ParseResult.failure(parts.getErrorMessage());
+        }
+        return ParseResult.success(new Deadline(parts.getValue()[0], resolveRelativeDate(parts.getValue()[1]),
+                taskStrings));
     }
 
     /**
-     * Handles the event command and returns a response string.
+     * Creates the task for an event command.
      *
-     * AI-Assisted: Refactored to use StringFormatter for consistent task addition messages.
-     *
-     * @param input The full user input string containing the event command, description, start and end times.
-     * @return The response string indicating the task was added.
-     * @throws EchoException If the description, start time, or end time is missing or invalid.
-     * @throws IOException   If there's an error saving the new task to file.
+     * @param parsed The parsed event command, containing the description, start and end times.
+     * @return The new event, or an error if the description, start time, or end time is missing or invalid.
      */
-    private String handleEventResponse(String input) throws EchoException, IOException {
-        String description = Parser.getDescription(input, COMMAND_EVENT);
-        String recurrence = Parser.extractRecurrence(description);
-        description = Parser.removeRecurrence(description);
-        String[] parts = Parser.parseEvent(description);
-        if (recurrence != null) {
-            LocalDateTime start = DateTimeParser.parseDateTime(parts[1]);
-            LocalDateTime end = DateTimeParser.parseDateTime(parts[2]);
-
-            if (start == null || end == null) {
-                throw new EchoException("Recurring events require datetime format: yyyy-MM-dd HHmm\n"
-                        + "Example: event meeting /from 2024-12-16 1400 /to 1500 /repeat weekly");
-            }
+    private ParseResult<Task> createEvent(ParsedCommand parsed) {
+        String repeat = Parser.extractRecurrence(parsed);
+        ParseResult<String[]> result = Parser.tryParseEvent(parsed);
+        if (!result.isSuccess()) {
+            return ParseResult.failure(result.getErrorMessage());
+        }
+        String[] parts = result.getValue();
+        parts[1] = resolveRelativeDate(parts[1]);
+        parts[2] = resolveRelativeDate(parts[2]);
+        if (repeat == null) {
+            return ParseResult.success(new Event(parts[0], parts[1], parts[2], (Recurrence) null, taskStrings));
         }
-        Task task;
-        if (recurrence != null) {
-            task = new Event(parts[0], parts[1], parts[2], recurrence);
+        Recurrence recurrence = Recurrence.fromName(repeat);
+        if (recurrence == null) {
+            return ParseResult.failure("Events can only repeat daily, weekly or monthly.\n"
+                    + "Example: event meeting /from 2024-12-16 1400 /to 1500 /repeat weekly");
+        }
+        LocalDateTime start = DateTimeParser.parseDateTime(parts[1]);
+        LocalDateTime end = DateTimeParser.parseDateTime(parts[2]);
+        if (start == null || end == null) {
+            return ParseResult.failure("Recurring events require datetime format: yyyy-MM-dd HHmm\n"
+                    + "Example: event meeting /from 2024-12-16 1400 /to 1500 /repeat weekly");
+        }
+        return ParseResult.success(new Event(parts[0], parts[1], parts[2], recurrence, taskStrings));
+    }
+
+    /**
+     * Replaces a relative date such as "tomorrow" or "next fri 1400" with the date it means
+     * today, so the task keeps a fixed date. Other text is returned unchanged.
+     */
+    private String resolveRelativeDate(String text) {
+        String resolved = relativeDates.resolve(text, LocalDate.now());
+        return resolved == null ? text : resolved;
+    }
+
+    /**
+     * Saves the tasks now, or remembers to save them later if auto-save is off.
+     */
+    private void saveTasks() throws IOException {
+        if (isAutoSave) {
+            storage.save(tasks);
         } else {
-            task = new Event(parts[0], parts[1], parts[2]);
+            hasUnsavedChanges = true;
         }
+    }
+
+    /**
+     * Adds a new task, saves the list and returns the confirmation, with a warning if the list
+     * already holds a task with the same type, description and dates.
+     */
+    private String addTask(Task task) throws IOException {
+        return addTaskDeferred(task).get();
+    }
+
+    /**
+     * Adds a new task and saves the list like {@link #addTask(Task)}, but leaves building the
+     * confirmation to the caller, so it can be done on another thread.
+     */
+    private Supplier<String> addTaskDeferred(Task task) throws IOException {
+        boolean isDuplicate = tasks.containsDuplicateOf(task);
         tasks.add(task);
-        storage.save(tasks);
-        return StringFormatter.formatTaskAdded(task.toString(), tasks.size());
+        saveTasks();
+        int taskCount = tasks.size();
+        return () -> {
+            String response = StringFormatter.formatTaskAdded(task.toString(), taskCount);
+            if (isDuplicate) {
+                response += "\nHeads up: this looks like a duplicate of an existing task. Use dedupe to remove copies.";
+            }
+            return response;
+        };
     }
 
     /**
      * Handles the delete command and returns a response string.
+     * Accepts the same task selections as the mark command; all selected tasks are
+     * removed in one pass and saved once.
      *
      * AI-Assisted: Refactored to use InputValidator and StringFormatter for consistent
      * validation and messaging.
      *
-     * @param input The full user input string containing the delete command and task number.
-     * @return The response string indicating the task was deleted.
+     * @param input The full user input string containing the delete command and task number(s).
+     * @return The response string indicating the task(s) were deleted, or the error message if
+     *         no valid selection was given.
      * @throws EchoException If the task number is invalid, missing, or out of bounds.
      * @throws IOException   If there's an error saving the updated task list to file.
      */
-    private String handleDeleteResponse(String input) throws EchoException, IOException {
+    private ParseResult<String> handleDeleteResponse(String input) throws EchoException, IOException {
         if (input.equals(COMMAND_DELETE) || Parser.getDescription(input, COMMAND_DELETE).isEmpty()) {
-            throw new EchoException("Please specify which task to delete.");
+            return ParseResult.failure("Please specify which task to delete.");
+        }
+        ParseResult<int[]> selection = getSelectedTaskNumbers(input, COMMAND_DELETE);
+        if (!selection.isSuccess()) {
+            return ParseResult.failure(selection.getErrorMessage());
+        }
+        int[] taskNums = selection.getValue();
+        if (taskNums.length == 0) {
+            return ParseResult.success("There are no matching tasks to delete.");
+        }
+        if (taskNums.length == 1) {
+            Task removedTask = tasks.remove(taskNums[0]);
+            saveTasks();
+            return ParseResult.success(StringFormatter.formatTaskRemoved(removedTask.toString(), tasks.size()));
         }
-        int taskNum = Parser.getTaskNumber(input) - 1;
-        InputValidator.requireValidTaskIndex(taskNum, tasks.size());
-        Task removedTask = tasks.remove(taskNum);
-        storage.save(tasks);
-        return StringFormatter.formatTaskRemoved(removedTask.toString(), tasks.size());
+        int removedCount = tasks.removeAll(taskNums);
+        saveTasks();
+        return ParseResult.success(StringFormatter.formatTasksRemoved(removedCount, tasks.size()));
     }
 
     /**
@@ -291,31 +785,231 @@ public class Echo {
      */
     private String handleClearResponse() throws IOException {
         tasks.clear();
-        storage.save(tasks);
+        saveTasks();
         return "All tasks have been cleared!";
     }
 
     /**
-     * Handles the find command and returns a response string.
+     * Handles the dedupe command and returns a response string.
+     * Removes every task that duplicates an earlier one, keeping the first copy, in one pass
+     * over the list and one save.
+     *
+     * @return The response string indicating how many duplicates were removed.
+     * @throws IOException If there's an error saving the task list to file.
+     */
+    private String handleDedupeResponse() throws IOException {
+        int[] duplicates = tasks.getDuplicateIndices();
+        if (duplicates.length == 0) {
+            return "There are no duplicate tasks.";
+        }
+        int removedCount = tasks.removeAll(duplicates);
+        saveTasks();
+        return StringFormatter.formatTasksRemoved(removedCount, tasks.size());
+    }
+
+    /**
+     * Handles the stats command and returns a response string.
+     * The statistics are kept up to date as tasks change, so this does not walk the task list.
+     *
+     * @return The response string with task totals, the done ratio and upcoming due counts.
+     */
+    private String handleStatsResponse() {
+        TaskStats.Summary stats = tasks.getStats().getSummary(LocalDate.now());
+        int donePercent = stats.getTotal() == 0 ? 0 : stats.getDone() * 100 / stats.getTotal();
+        return "Here are your task stats:"
+                + "\nTotal: " + StringFormatter.formatTaskCount(stats.getTotal()) + " (todos: " + stats.getTodos()
+                + ", deadlines: " + stats.getDeadlines() + ", events: " + stats.getEvents() + ")"
+                + "\nDone: " + stats.getDone() + " of " + stats.getTotal() + " (" + donePercent + "%)"
+                + "\nOverdue: " + stats.getOverdue()
+                + "\nDue today: " + stats.getDueToday()
+                + "\nDue this week: " + stats.getDueThisWeek()
+                + "\nDue this month: " + stats.getDueThisMonth();
+    }
+
+    /**
+     * Handles the conflicts command and returns a response string.
+     * Lists every pair of event occurrences, including repeats of recurring events, that overlap
+     * between the two given dates. A date without a time covers that whole day.
+     *
+     * @param input The full user input string, e.g. "conflicts 2025-01-01 2025-01-31".
+     * @return The response string listing the overlaps, or a message if there are none.
+     * @throws EchoException If the dates are missing, invalid or out of order.
+     */
+    private String handleConflictsResponse(String input) throws EchoException {
+        String usage = "Use: conflicts <from> <to>, e.g. conflicts 2025-01-01 2025-01-31";
+        String[] words = Parser.splitWords(Parser.getDescription(input, COMMAND_CONFLICTS));
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (int split = 1; split < words.length && to == null; split++) {
+            from = parseWindowStart(String.join(" ", Arrays.copyOfRange(words, 0, split)));
+            to = from == null ? null : parseWindowEnd(String.join(" ", Arrays.copyOfRange(words, split, words.length)));
+        }
+        if (from == null || to == null) {
+            throw new EchoException("Please give the start and end of the period to check. " + usage);
+        }
+        if (!to.isAfter(from)) {
+            throw new EchoException("The end of the period must be after its start. " + usage);
+        }
+
+        List<Conflict> conflicts = ConflictDetector.findConflicts(tasks.snapshot(), from, to);
+        if (conflicts.isEmpty()) {
+            return "No events overlap in that period.";
+        }
+        StringBuilder response = new StringBuilder("Here are the overlapping events:");
+        for (Conflict conflict : conflicts) {
+            response.append('\n').append(DateTimeParser.formatDateTime(conflict.getStart())).append(": ")
+                    .append(conflict.getFirst().getDescription()).append(" (task ").append(conflict.getFirstIndex() + 1)
+                    .append(") overlaps ").append(conflict.getSecond().getDescription())
+                    .append(" (task ").append(conflict.getSecondIndex() + 1).append(")");
+        }
+        return response.toString();
+    }
+
+    private static LocalDateTime parseWindowStart(String text) {
+        LocalDateTime dateTime = DateTimeParser.parseDateTime(text);
+        LocalDate date = dateTime == null ? DateTimeParser.parseDate(text) : null;
+        return dateTime != null ? dateTime : date != null ? date.atStartOfDay() : null;
+    }
+
+    private static LocalDateTime parseWindowEnd(String text) {
+        LocalDateTime dateTime = DateTimeParser.parseDateTime(text);
+        LocalDate date = dateTime == null ? DateTimeParser.parseDate(text) : null;
+        return dateTime != null ? dateTime : date != null ? date.plusDays(1).atStartOfDay() : null;
+    }
+
+    /**
+     * Handles the query command and returns a response string.
+     * The matching tasks are shown with their position in the full list, so they can be
+     * passed straight to mark, unmark or delete.
+     *
+     * @param input The full user input string containing the query command and its terms.
+     * @return The response string with matching tasks or a message if none match.
+     * @throws EchoException If the query is missing or malformed.
+     */
+    private String handleQueryResponse(String input) throws EchoException {
+        String queryString = Parser.getDescription(input, COMMAND_QUERY);
+        if (queryString.isEmpty()) {
+            throw new EchoException("Please provide a query. "
+                    + "Use: query type:D done:false due<2025-01-01 text:report sort:due limit:20");
+        }
+        Query query = QueryCompiler.compile(queryString);
+        TaskList view;
+        int[] taskNums;
+        if (query.getIndexedOrder() == null) {
+            view = tasks.snapshot();
+            taskNums = query.execute(view);
+        } else {
+            // Answered from the live list's sorted view, so the snapshot must be of the same version
+            synchronized (tasks) {
+                tasks.getSortedView(query.getIndexedOrder());
+                view = tasks.snapshot();
+                taskNums = query.execute(tasks);
+            }
+        }
+        if (taskNums.length == 0) {
+            return "No tasks match your query.";
+        }
+        StringBuilder response = new StringBuilder("Here are the tasks matching your query:");
+        for (int taskNum : taskNums) {
+            response.append('\n').append(StringFormatter.formatListItem(taskNum, view.get(taskNum)));
+        }
+        return response.toString();
+    }
+
+    /**
+     * Handles the undo command and returns a response string.
+     * Accepts an optional number of commands to undo, defaulting to one.
+     *
+     * @param input The full user input string containing the undo command.
+     * @return The response string indicating how many commands were undone.
+     * @throws EchoException If the number of commands is not a positive integer.
+     * @throws IOException   If there's an error saving the restored task list to file.
+     */
+    private String handleUndoResponse(String input) throws EchoException, IOException {
+        int undone = tasks.undo(getStepCount(input, COMMAND_UNDO));
+        if (undone == 0) {
+            return "There is nothing to undo.";
+        }
+        saveTasks();
+        return "Undone the last " + formatCommandCount(undone) + ". You now have "
+                + StringFormatter.formatTaskCount(tasks.size()) + " in the list.";
+    }
+
+    /**
+     * Handles the redo command and returns a response string.
+     * Accepts an optional number of commands to redo, defaulting to one.
+     *
+     * @param input The full user input string containing the redo command.
+     * @return The response string indicating how many commands were redone.
+     * @throws EchoException If the number of commands is not a positive integer.
+     * @throws IOException   If there's an error saving the restored task list to file.
+     */
+    private String handleRedoResponse(String input) throws EchoException, IOException {
+        int redone = tasks.redo(getStepCount(input, COMMAND_REDO));
+        if (redone == 0) {
+            return "There is nothing to redo.";
+        }
+        saveTasks();
+        return "Redone the last " + formatCommandCount(redone) + ". You now have "
+                + StringFormatter.formatTaskCount(tasks.size()) + " in the list.";
+    }
+
+    /**
+     * Returns the optional step count given to undo or redo, or 1 if none is given.
+     */
+    private static int getStepCount(String input, String command) throws EchoException {
+        String steps = Parser.getDescription(input, command);
+        if (steps.isEmpty()) {
+            return 1;
+        }
+        return InputValidator.requirePositiveInteger(steps, "Number of commands");
+    }
+
+    private static String formatCommandCount(int count) {
+        return count == 1 ? "command" : count + " commands";
+    }
+
+    /**
+     * Writes the tasks matching the find command's keyword, or the requested page of them,
+     * to the given sink. With "--fuzzy N", words within N typos of the keyword also match and
+     * the closest matches are listed first. With "--top K", only the K most relevant matches
+     * are listed, best first.
      *
      * AI-Assisted: Refactored to use StringFormatter.formatListItem for consistent formatting.
      *
      * @param input The full user input string containing the find command and keyword.
-     * @return The response string with matching tasks or a message if none found.
-     * @throws EchoException If the keyword is missing.
+     * @param out   The sink to write the matching tasks to.
+     * @throws EchoException If the keyword is missing or the page options are invalid.
+     * @throws IOException   If writing to the sink fails.
      */
-    private String handleFindResponse(String input) throws EchoException {
-        String keyword = Parser.getDescription(input, COMMAND_FIND);
+    private void writeMatchingTasks(String input, Appendable out) throws EchoException, IOException {
+        String description = Parser.getDescription(input, COMMAND_FIND);
+        String keyword = Parser.removeOptions(description);
         if (keyword.isEmpty()) {
             throw new EchoException("Please provide a keyword to search for. Use: find <keyword>");
         }
-        TaskList matchingTasks = tasks.findTasks(keyword);
+        String fuzzy = Parser.extractOption(description, OPTION_FUZZY);
+        String top = Parser.extractOption(description, OPTION_TOP);
+        if (fuzzy != null && top != null) {
+            throw new EchoException("Fuzzy results are already ranked, so --top cannot be used with --fuzzy.");
+        }
+        TaskList matchingTasks;
+        if (top != null) {
+            int k = InputValidator.requirePositiveInteger(top, "Number of results");
+            matchingTasks = tasks.snapshot().findTopTasks(keyword, k);
+        } else if (fuzzy != null) {
+            int maxDistance = InputValidator.requirePositiveInteger(fuzzy, "Fuzzy distance");
+            if (maxDistance > MAX_FUZZY_DISTANCE) {
+                throw new EchoException("Fuzzy distance can be at most " + MAX_FUZZY_DISTANCE + ".");
+            }
+            matchingTasks = tasks.findTasksFuzzy(keyword, maxDistance);
+        } else {
+            matchingTasks = tasks.snapshot().findTasks(keyword);
+        }
         if (matchingTasks.size() == 0) {
-            return "No matching tasks found.";
+            out.append("No matching tasks found.");
+            return;
         }
-        String taskList = IntStream.range(0, matchingTasks.size())
-                .mapToObj(i -> StringFormatter.formatListItem(i, matchingTasks.get(i)))
-                .collect(Collectors.joining("\n"));
-        return "Here are the matching tasks in your list:\n" + taskList;
+        writePage(matchingTasks, "Here are the matching tasks in your list", description, out);
     }
 }
@@ -0,0 +1,337 @@
+package echo;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import echo.exception.EchoException;
+import echo.util.InputValidator;
+
+/**
+ * Serves Echo's task commands over HTTP on the loopback interface, so other programs can drive
+ * Echo without the GUI. Every request runs on its own thread: a virtual thread on Java 21 and
+ * later, a pooled platform thread otherwise. The Echo instance runs in concurrent mode, so reads
+ * run side by side while changes to the tasks are applied one at a time.
+ *
+ * Endpoints (responses are Echo's usual replies, as plain text, with status 400 when Echo rejects
+ * the command, e.g. because a task number does not exist):
+ * GET /tasks (with optional page, size and sort parameters) lists the tasks, GET /tasks?q=WORDS
+ * finds tasks, POST /tasks/todo|deadline|event adds a task described by the request body,
+ * POST /tasks/N/mark and POST /tasks/N/unmark mark tasks and DELETE /tasks/N deletes them. N must
+ * be a single task number: the selections the commands accept, like "all", are not served.
+ *
+ * Usage: {@code --serve [PORT]}.
+ */
+public class HttpApiServer {
+    public static final String OPTION_SERVE = "--serve";
+    private static final int DEFAULT_PORT = 8080;
+    private static final String CONTEXT = "/tasks";
+    private static final String METHOD_GET = "GET";
+    private static final String METHOD_POST = "POST";
+    private static final String METHOD_DELETE = "DELETE";
+    private static final String PARAMETER_FIND = "q";
+    private static final String[] LIST_PARAMETERS = {"page", "size", "sort"};
+    private static final String[] ADD_COMMANDS = {"todo", "deadline", "event"};
+    private static final String[] MARK_COMMANDS = {"mark", "unmark"};
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 13;
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final String USAGE = "Usage: " + OPTION_SERVE + " [PORT]";
+    private static final String PROPERTY_NO_DELAY = "sun.net.httpserver.nodelay";
+
+    static {
+        // The JDK server writes the headers and the body of a response separately. With Nagle's
+        // algorithm on, the body then waits for the client's delayed ACK, about 40 ms per request.
+        if (System.getProperty(PROPERTY_NO_DELAY) == null) {
+            System.setProperty(PROPERTY_NO_DELAY, "true");
+        }
+    }
+
+    private final Echo echo;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Constructs an HttpApiServer listening on the loopback interface. It does not accept
+     * requests until it is started.
+     *
+     * @param echo The Echo instance that executes the commands. It must be in concurrent mode.
+     * @param port The port to listen on, or 0 to pick a free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public HttpApiServer(Echo echo, int port) throws IOException {
+        assert echo != null : "Echo cannot be null";
+        this.echo = echo;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(CONTEXT, this::handle);
+        executor = newThreadPerRequestExecutor();
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Starts accepting requests on a background thread.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests, waits up to the given number of seconds for requests in
+     * progress to finish, and saves the tasks.
+     *
+     * @param delaySeconds The longest time to wait for requests in progress.
+     * @throws IOException If saving the tasks fails.
+     */
+    public void stop(int delaySeconds) throws IOException {
+        server.stop(delaySeconds);
+        executor.shutdown();
+        echo.save();
+    }
+
+    /**
+     * Returns the port the server listens on.
+     *
+     * @return The port, which is the one picked by the system if the server was created with port 0.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread per request where the running Java
+     * version has them (21 and later), and otherwise reuses idle platform threads. The virtual
+     * thread executor is looked up reflectively because Echo is built for Java 17.
+     */
+    private static ExecutorService newThreadPerRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath().substring(CONTEXT.length());
+            String command;
+            try {
+                if (!path.isEmpty() && path.charAt(0) != '/') {
+                    throw new HttpError(STATUS_NOT_FOUND, "There is no endpoint at " + CONTEXT + path);
+                }
+                command = toCommand(exchange.getRequestMethod(), path.split("/"), exchange);
+            } catch (HttpError e) {
+                sendText(exchange, e.status, e.getMessage());
+                return;
+            }
+            ReplyWriter out = new ReplyWriter(exchange);
+            boolean isSuccess = echo.writeResponse(command, out);
+            out.finish(isSuccess ? STATUS_OK : STATUS_BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Translates a request into the command a user would type for it.
+     *
+     * @param method   The HTTP method.
+     * @param segments The path after {@value #CONTEXT}, split on "/". The first segment is empty.
+     * @param exchange The request, for its query string and body.
+     * @return The command to execute.
+     * @throws HttpError If the request does not match any endpoint.
+     */
+    private static String toCommand(String method, String[] segments, HttpExchange exchange)
+            throws HttpError, IOException {
+        if (segments.length <= 1) {
+            requireMethod(method, METHOD_GET);
+            return toReadCommand(exchange.getRequestURI().getRawQuery());
+        }
+        if (segments.length == 2 && contains(ADD_COMMANDS, segments[1])) {
+            requireMethod(method, METHOD_POST);
+            String description = readBody(exchange.getRequestBody()).trim();
+            if (description.isEmpty()) {
+                throw new HttpError(STATUS_BAD_REQUEST, "Put the task in the request body, e.g. 'read book'.");
+            }
+            return segments[1] + " " + description;
+        }
+        if (segments.length == 2) {
+            requireMethod(method, METHOD_DELETE);
+            return "delete " + requireTaskNumber(segments[1]);
+        }
+        if (segments.length == 3 && contains(MARK_COMMANDS, segments[2])) {
+            requireMethod(method, METHOD_POST);
+            return segments[2] + " " + requireTaskNumber(segments[1]);
+        }
+        throw new HttpError(STATUS_NOT_FOUND, "There is no endpoint at " + exchange.getRequestURI().getPath());
+    }
+
+    /**
+     * Builds a find command from the q parameter, or a list command from the paging and sort parameters.
+     */
+    private static String toReadCommand(String query) {
+        StringBuilder listCommand = new StringBuilder("list");
+        if (query == null) {
+            return listCommand.toString();
+        }
+        for (String parameter : query.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals < 0) {
+                continue;
+            }
+            String name = parameter.substring(0, equals);
+            String value = URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8);
+            if (name.equals(PARAMETER_FIND)) {
+                return "find " + value;
+            }
+            if (contains(LIST_PARAMETERS, name)) {
+                listCommand.append(" --").append(name).append(' ').append(value);
+            }
+        }
+        return listCommand.toString();
+    }
+
+    /**
+     * Checks that a path segment is a single task number. Selections such as "all" or "1-500"
+     * are not accepted, so one request cannot delete or change every task.
+     */
+    private static String requireTaskNumber(String segment) throws HttpError {
+        if (segment.isEmpty() || !segment.chars().allMatch(c -> c >= '0' && c <= '9')) {
+            throw new HttpError(STATUS_BAD_REQUEST, "Give one task number, e.g. " + CONTEXT + "/2.");
+        }
+        return segment;
+    }
+
+    private static void requireMethod(String method, String expected) throws HttpError {
+        if (!method.equals(expected)) {
+            throw new HttpError(STATUS_METHOD_NOT_ALLOWED, "Use " + expected + " for this endpoint.");
+        }
+    }
+
+    private static boolean contains(String[] values, String value) {
+        for (String candidate : values) {
+            if (candidate.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String readBody(InputStream body) throws IOException {
+        return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    /**
+     * Serves the tasks until the process is stopped, then saves them.
+     * The server's threads keep the process running after this method returns.
+     *
+     * @param args The arguments after {@value #OPTION_SERVE}.
+     */
+    public static void main(String[] args) {
+        try {
+            if (args.length > 1) {
+                throw new EchoException(USAGE);
+            }
+            int port = args.length == 0 ? DEFAULT_PORT : InputValidator.requirePositiveInteger(args[0], "Port");
+            HttpApiServer server = new HttpApiServer(new Echo(Echo.FILE_PATH, true), port);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    server.stop(1);
+                } catch (IOException e) {
+                    System.err.println("Error saving to file: " + e.getMessage());
+                }
+            }));
+            server.start();
+            System.out.println("Echo is listening on http://localhost:" + server.getPort() + CONTEXT);
+        } catch (EchoException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Error starting server: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * A request that does not match any endpoint, with the status to reply with.
+     */
+    private static class HttpError extends Exception {
+        private static final long serialVersionUID = 1L;
+        private final int status;
+
+        private HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * The body of the reply to a command. The status is only known once the command has run, so
+     * the start of the reply is held back until then. Echo's error messages are short, so a reply
+     * that outgrows the buffer, such as a long task list, is a success and is streamed with status 200.
+     */
+    private static class ReplyWriter extends Writer {
+        private final HttpExchange exchange;
+        private final StringBuilder start = new StringBuilder();
+        private Writer body;
+
+        private ReplyWriter(HttpExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            if (body != null) {
+                body.write(chars, offset, length);
+                return;
+            }
+            start.append(chars, offset, length);
+            if (start.length() > OUTPUT_BUFFER_SIZE) {
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                exchange.sendResponseHeaders(STATUS_OK, 0);
+                body = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8),
+                        OUTPUT_BUFFER_SIZE);
+                body.append(start);
+                start.setLength(0);
+            }
+        }
+
+        /**
+         * Sends the rest of the reply. If none of it has been sent yet, it is sent with the given status.
+         */
+        private void finish(int status) throws IOException {
+            if (body == null) {
+                sendText(exchange, status, start.toString());
+            } else {
+                body.flush();
+            }
+        }
+
+        @Override
+        public void flush() {
+            // Nothing is sent before the status is known or the buffer fills.
+        }
+
+        @Override
+        public void close() {
+            // The exchange is closed by the handler.
+        }
+    }
+}
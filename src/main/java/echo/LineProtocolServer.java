@@ -0,0 +1,505 @@
+package echo;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import echo.exception.EchoException;
+import echo.util.InputValidator;
+
+/**
+ * Serves Echo's commands to local programs over a plain line protocol, on a Unix domain socket
+ * or a loopback TCP port. Clients send commands as they would type them, one per line, and may
+ * send many commands without waiting for the replies. Each reply is written as its lines followed
+ * by a line holding a single ".", and reply lines that start with "." get an extra "." in front,
+ * as in SMTP.
+ *
+ * A single thread serves every connection with a selector and runs the commands itself, so
+ * commands from all clients are applied one at a time, in the order they are read. Replies are
+ * encoded into pooled direct buffers and all the replies waiting for a client are sent with one
+ * gathering write. Once a few buffers of replies are waiting for a client, its further commands
+ * are held back until the replies have been sent, so a client that does not read its replies
+ * cannot make the server run its commands ahead of them.
+ *
+ * Changes are not saved after every command, which would stall every client while the data file
+ * is rewritten. They are saved at most once per {@value #SAVE_INTERVAL_MILLIS} ms and when the
+ * server stops.
+ *
+ * Usage: {@code --listen PORT|SOCKET_PATH}.
+ */
+public class LineProtocolServer {
+    public static final String OPTION_LISTEN = "--listen";
+    private static final int BUFFER_SIZE = 1 << 14;
+    private static final int MAX_POOLED_BUFFERS = 256;
+    private static final int MAX_PENDING_OUTPUT_BUFFERS = 4;
+    private static final long SAVE_INTERVAL_MILLIS = 1000;
+    private static final int MAX_LINE_LENGTH = 1 << 16;
+    private static final String END_OF_REPLY = ".";
+    private static final String MESSAGE_LINE_TOO_LONG = "That command is too long. Commands can be at most "
+            + MAX_LINE_LENGTH + " bytes.";
+    private static final String USAGE = "Usage: " + OPTION_LISTEN + " PORT|SOCKET_PATH";
+
+    private final Echo echo;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final BufferPool buffers = new BufferPool();
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final StringBuilder reply = new StringBuilder();
+    private final StringBuilder framedReply = new StringBuilder();
+    private final Thread selectorThread;
+    private volatile boolean isRunning;
+    private long lastSaveTime;
+
+    /**
+     * Constructs a LineProtocolServer and binds it to the address. It does not accept
+     * connections until it is started.
+     *
+     * @param echo    The Echo instance that executes the commands.
+     * @param address A {@link UnixDomainSocketAddress} whose file does not exist yet, or a TCP address.
+     * @throws IOException If the address cannot be bound.
+     */
+    public LineProtocolServer(Echo echo, SocketAddress address) throws IOException {
+        assert echo != null : "Echo cannot be null";
+        this.echo = echo;
+        echo.setAutoSave(false);
+        serverChannel = address instanceof UnixDomainSocketAddress
+                ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open();
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            selector = Selector.open();
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            throw e;
+        }
+        selectorThread = new Thread(this::serve, "echo-line-server");
+    }
+
+    /**
+     * Starts serving connections on a background thread.
+     */
+    public void start() {
+        isRunning = true;
+        selectorThread.start();
+    }
+
+    /**
+     * Closes every connection, waits for the serving thread to finish, removes the socket file
+     * of a Unix domain socket and saves the tasks.
+     *
+     * @throws IOException If saving the tasks fails.
+     */
+    public void stop() throws IOException {
+        isRunning = false;
+        selector.wakeup();
+        try {
+            selectorThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        SocketAddress address = getAddress();
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+        if (address instanceof UnixDomainSocketAddress) {
+            Files.deleteIfExists(((UnixDomainSocketAddress) address).getPath());
+        }
+        echo.save();
+    }
+
+    /**
+     * Returns the address the server is bound to.
+     *
+     * @return The address, with the port picked by the system if the server was bound to TCP port 0.
+     * @throws IOException If the server has been stopped.
+     */
+    public SocketAddress getAddress() throws IOException {
+        return serverChannel.getLocalAddress();
+    }
+
+    private void serve() {
+        lastSaveTime = System.currentTimeMillis();
+        try {
+            while (isRunning) {
+                selector.select(SAVE_INTERVAL_MILLIS);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        handle(key);
+                    } catch (RuntimeException e) {
+                        System.err.println("Closing a connection after an unexpected error: " + e);
+                        drop(key);
+                    }
+                }
+                saveIfDue();
+            }
+        } catch (IOException e) {
+            System.err.println("Line server stopped: " + e.getMessage());
+        }
+    }
+
+    private void handle(SelectionKey key) throws IOException {
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isWritable()) {
+                connection.flushAndResume();
+            }
+            if (key.isValid() && key.isReadable()) {
+                connection.read();
+            }
+        } catch (IOException e) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Closes the connection of a key whose handling failed, so the other clients keep being served.
+     */
+    private void drop(SelectionKey key) {
+        if (!(key.attachment() instanceof Connection)) {
+            return;
+        }
+        try {
+            ((Connection) key.attachment()).close();
+        } catch (IOException e) {
+            // The connection is being dropped anyway.
+        }
+    }
+
+    /**
+     * Accepts every pending connection. A connection that cannot be accepted, e.g. because the
+     * process has run out of file descriptors, is reported and left for the next round, and the
+     * server keeps serving the clients it has.
+     */
+    private void accept() {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = serverChannel.accept();
+            } catch (IOException e) {
+                System.err.println("Could not accept a connection: " + e.getMessage());
+                return;
+            }
+            if (channel == null) {
+                return;
+            }
+            try {
+                channel.configureBlocking(false);
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                key.attach(new Connection(channel, key));
+            } catch (IOException e) {
+                System.err.println("Could not accept a connection: " + e.getMessage());
+                closeQuietly(channel);
+            }
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // The connection is being dropped anyway.
+        }
+    }
+
+    /**
+     * Saves the changes made since the last save, if the save interval has passed.
+     */
+    private void saveIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastSaveTime < SAVE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastSaveTime = now;
+        try {
+            echo.save();
+        } catch (IOException e) {
+            System.err.println("Error saving to file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Executes a command and appends its framed reply to the connection's output.
+     */
+    private void execute(String line, Connection connection) throws IOException {
+        reply.setLength(0);
+        echo.writeResponse(line, reply);
+        appendReply(reply, connection);
+    }
+
+    private void appendReply(CharSequence text, Connection connection) {
+        framedReply.setLength(0);
+        int lineStart = 0;
+        while (true) {
+            int lineEnd = indexOfLineBreak(text, lineStart);
+            if (lineStart < lineEnd && text.charAt(lineStart) == '.') {
+                framedReply.append('.');
+            }
+            framedReply.append(text, lineStart, lineEnd).append('\n');
+            if (lineEnd == text.length()) {
+                break;
+            }
+            lineStart = lineEnd + 1;
+        }
+        framedReply.append(END_OF_REPLY).append('\n');
+        connection.encode(framedReply);
+    }
+
+    private static int indexOfLineBreak(CharSequence text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    /**
+     * Serves commands on the Unix domain socket or TCP port named in the arguments until the
+     * process is stopped, then saves the tasks.
+     *
+     * @param args The arguments after {@value #OPTION_LISTEN}.
+     */
+    public static void main(String[] args) {
+        try {
+            if (args.length != 1) {
+                throw new EchoException(USAGE);
+            }
+            LineProtocolServer server = new LineProtocolServer(new Echo(Echo.FILE_PATH), parseAddress(args[0]));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    server.stop();
+                } catch (IOException e) {
+                    System.err.println("Error saving to file: " + e.getMessage());
+                }
+            }));
+            server.start();
+            System.out.println("Echo is listening on " + args[0]);
+        } catch (EchoException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Error starting server: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads a listen address: a number is a loopback TCP port and anything else is the path of a
+     * Unix domain socket.
+     */
+    private static SocketAddress parseAddress(String text) throws EchoException {
+        if (!text.isEmpty() && Character.isDigit(text.charAt(0))) {
+            int port = InputValidator.requirePositiveInteger(text, "Port");
+            return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        }
+        return UnixDomainSocketAddress.of(text);
+    }
+
+    /**
+     * A connected client: the part of a command line read so far, the input held back while its
+     * replies drain, and the replies not yet sent. Replies are kept in buffers that are ready to
+     * be written, plus the buffer still being filled.
+     */
+    private class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ArrayDeque<ByteBuffer> output = new ArrayDeque<>();
+        private ByteBuffer filling;
+        private ByteBuffer unread;
+        private byte[] line = new byte[0];
+        private int lineLength;
+        private boolean isLineTooLong;
+
+        private Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        /**
+         * Reads what the client has sent, executes the complete commands in it and sends the
+         * replies together.
+         */
+        private void read() throws IOException {
+            ByteBuffer in = buffers.acquire();
+            if (channel.read(in) < 0) {
+                buffers.release(in);
+                flush();
+                close();
+                return;
+            }
+            in.flip();
+            runCommands(in);
+            flushAndResume();
+        }
+
+        /**
+         * Executes the commands in the input until too many replies are waiting to be sent, and
+         * keeps the rest of the input for when they have been.
+         */
+        private void runCommands(ByteBuffer in) throws IOException {
+            readLines(in);
+            if (in.hasRemaining()) {
+                unread = in;
+            } else {
+                buffers.release(in);
+            }
+        }
+
+        /**
+         * Sends pending replies and, each time they have all been sent, executes more of the
+         * commands held back.
+         */
+        private void flushAndResume() throws IOException {
+            flush();
+            while (unread != null && output.isEmpty()) {
+                ByteBuffer in = unread;
+                unread = null;
+                runCommands(in);
+                flush();
+            }
+        }
+
+        private void readLines(ByteBuffer in) throws IOException {
+            while (in.hasRemaining() && output.size() < MAX_PENDING_OUTPUT_BUFFERS) {
+                byte b = in.get();
+                if (b != '\n') {
+                    appendToLine(b);
+                    continue;
+                }
+                if (isLineTooLong) {
+                    appendReply(MESSAGE_LINE_TOO_LONG, this);
+                } else {
+                    int length = lineLength > 0 && line[lineLength - 1] == '\r' ? lineLength - 1 : lineLength;
+                    execute(new String(line, 0, length, StandardCharsets.UTF_8), this);
+                }
+                lineLength = 0;
+                isLineTooLong = false;
+            }
+        }
+
+        private void appendToLine(byte b) {
+            if (lineLength == MAX_LINE_LENGTH) {
+                isLineTooLong = true;
+                return;
+            }
+            if (lineLength == line.length) {
+                line = Arrays.copyOf(line, Math.max(64, Math.min(MAX_LINE_LENGTH, lineLength * 2)));
+            }
+            line[lineLength++] = b;
+        }
+
+        /**
+         * Encodes a reply into this connection's output buffers, packing short replies into the
+         * same buffer.
+         */
+        private void encode(CharSequence text) {
+            CharBuffer chars = CharBuffer.wrap(text);
+            encoder.reset();
+            while (true) {
+                if (filling == null) {
+                    filling = buffers.acquire();
+                }
+                CoderResult result = encoder.encode(chars, filling, true);
+                if (result.isOverflow()) {
+                    queueFilling();
+                    continue;
+                }
+                if (encoder.flush(filling).isOverflow()) {
+                    queueFilling();
+                    continue;
+                }
+                return;
+            }
+        }
+
+        private void queueFilling() {
+            filling.flip();
+            output.add(filling);
+            filling = null;
+        }
+
+        /**
+         * Sends as many pending replies as the socket accepts with one gathering write. If some
+         * are left, or commands are held back, the connection waits until it can write again and
+         * stops reading commands.
+         */
+        private void flush() throws IOException {
+            if (filling != null && filling.position() > 0) {
+                queueFilling();
+            }
+            if (!output.isEmpty()) {
+                channel.write(output.toArray(new ByteBuffer[0]));
+                while (!output.isEmpty() && !output.peek().hasRemaining()) {
+                    buffers.release(output.remove());
+                }
+            }
+            if (key.isValid()) {
+                key.interestOps(output.isEmpty() && unread == null ? SelectionKey.OP_READ : SelectionKey.OP_WRITE);
+            }
+        }
+
+        private void close() throws IOException {
+            key.cancel();
+            channel.close();
+            for (ByteBuffer buffer : output) {
+                buffers.release(buffer);
+            }
+            output.clear();
+            if (filling != null) {
+                buffers.release(filling);
+                filling = null;
+            }
+            if (unread != null) {
+                buffers.release(unread);
+                unread = null;
+            }
+        }
+    }
+
+    /**
+     * Direct buffers kept for reuse. Allocating a direct buffer is slow and its memory is only
+     * returned when the buffer is garbage collected, so buffers are recycled rather than dropped.
+     * Only used by the serving thread.
+     */
+    private static class BufferPool {
+        private final ArrayDeque<ByteBuffer> idle = new ArrayDeque<>();
+
+        private ByteBuffer acquire() {
+            ByteBuffer buffer = idle.poll();
+            return buffer != null ? buffer : ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+
+        private void release(ByteBuffer buffer) {
+            if (idle.size() < MAX_POOLED_BUFFERS) {
+                buffer.clear();
+                idle.push(buffer);
+            }
+        }
+    }
+}
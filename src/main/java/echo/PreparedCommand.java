@@ -0,0 +1,51 @@
+package echo;
+
+import echo.parser.ParsedCommand;
+import echo.task.Task;
+import echo.util.ParseResult;
+
+/**
+ * A user input that has been parsed but not yet executed, as produced by {@link Echo#prepare(String)}.
+ * Holds the task to add, or the reason it could not be created, for commands that add one, or
+ * the error if the input could not be prepared at all.
+ */
+class PreparedCommand {
+    private final ParsedCommand command;
+    private final ParseResult<Task> task;
+    private final Exception error;
+
+    /**
+     * Constructs a PreparedCommand for an input that was parsed successfully.
+     *
+     * @param command The parsed input.
+     * @param task    The task the command adds, or null if it does not add one.
+     */
+    PreparedCommand(ParsedCommand command, ParseResult<Task> task) {
+        this.command = command;
+        this.task = task;
+        this.error = null;
+    }
+
+    /**
+     * Constructs a PreparedCommand for an input that could not be prepared.
+     *
+     * @param error The error to report when the command is applied.
+     */
+    PreparedCommand(Exception error) {
+        this.command = null;
+        this.task = null;
+        this.error = error;
+    }
+
+    ParsedCommand getCommand() {
+        return command;
+    }
+
+    ParseResult<Task> getTask() {
+        return task;
+    }
+
+    Exception getError() {
+        return error;
+    }
+}
@@ -0,0 +1,26 @@
+package echo.command;
+
+import java.io.IOException;
+
+import echo.exception.EchoException;
+import echo.parser.ParsedCommand;
+import echo.util.ParseResult;
+
+/**
+ * Executes one command and returns Echo's response to it, or the error message if the command
+ * was rejected.
+ */
+@FunctionalInterface
+public interface CommandHandler {
+
+    /**
+     * Executes the command.
+     *
+     * @param command The user input, with its command word already resolved to the command's name.
+     * @return The response to show the user, or a failure holding the error message for common
+     *         invalid input, such as a task number that does not exist.
+     * @throws EchoException If the command's arguments are invalid.
+     * @throws IOException   If saving the tasks fails.
+     */
+    ParseResult<String> execute(ParsedCommand command) throws EchoException, IOException;
+}
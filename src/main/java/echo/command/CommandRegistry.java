@@ -0,0 +1,179 @@
+package echo.command;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import echo.exception.EchoException;
+
+/**
+ * Maps command words to their handlers.
+ * Every name and alias is stored in a trie, so a word is resolved in time proportional to its
+ * length. A word that is not a name or alias still resolves if it is the prefix of exactly one
+ * command, e.g. "mar" resolves to "mark", unless that command was registered to be typed in full.
+ */
+public class CommandRegistry {
+    private final Node root = new Node();
+    private final Map<String, CommandHandler> handlers = new HashMap<>();
+    private final Set<String> exactOnlyCommands = new HashSet<>();
+
+    /**
+     * Registers a command that can also be run by typing a unique prefix of it.
+     *
+     * @param name    The name of the command.
+     * @param handler The handler that executes the command.
+     * @param aliases Other words that run the command, e.g. "ls" for "list".
+     */
+    public void register(String name, CommandHandler handler, String... aliases) {
+        register(name, true, handler, aliases);
+    }
+
+    /**
+     * Registers a command.
+     *
+     * @param name         The name of the command.
+     * @param allowsPrefix Whether a unique prefix of the name runs the command. Commands that
+     *                     cannot be undone cheaply, like clearing the list, should be typed in full.
+     * @param handler      The handler that executes the command.
+     * @param aliases      Other words that run the command, e.g. "ls" for "list".
+     */
+    public void register(String name, boolean allowsPrefix, CommandHandler handler, String... aliases) {
+        assert name != null && !name.isEmpty() : "Command name cannot be empty";
+        assert handler != null : "Handler cannot be null";
+        assert !handlers.containsKey(name) : "Command " + name + " is already registered";
+        handlers.put(name, handler);
+        if (!allowsPrefix) {
+            exactOnlyCommands.add(name);
+        }
+        insert(name, name);
+        for (String alias : aliases) {
+            insert(alias, name);
+        }
+    }
+
+    /**
+     * Returns the name of the command a word refers to.
+     * Names and aliases match exactly; otherwise the word must be the prefix of exactly one command
+     * that allows prefixes.
+     *
+     * @param word The command word typed by the user.
+     * @return The command's name, or null if the word does not refer to any command.
+     * @throws EchoException If the word is the prefix of several commands, or only of a command
+     *                       that must be typed in full.
+     */
+    public String resolve(String word) throws EchoException {
+        if (word.isEmpty()) {
+            return null;
+        }
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.getChild(word.charAt(i));
+        }
+        if (node == null) {
+            return null;
+        }
+        if (node.command != null) {
+            return node.command;
+        }
+        if (node.onlyCommand != null && exactOnlyCommands.contains(node.onlyCommand)) {
+            throw new EchoException("Please type '" + node.onlyCommand + "' in full to run it.");
+        }
+        if (node.onlyCommand != null) {
+            return node.onlyCommand;
+        }
+        TreeSet<String> candidates = new TreeSet<>();
+        node.collectCommands(candidates);
+        throw new EchoException("'" + word + "' could be " + joinChoices(new ArrayList<>(candidates))
+                + ". Please type more of the command.");
+    }
+
+    /**
+     * Returns the handler registered under a command name.
+     *
+     * @param name The name of the command, as returned by {@link #resolve(String)}.
+     * @return The handler, or null if there is no such command.
+     */
+    public CommandHandler getHandler(String name) {
+        return handlers.get(name);
+    }
+
+    private void insert(String word, String name) {
+        Node node = root;
+        node.addCommand(name);
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrAddChild(word.charAt(i));
+            node.addCommand(name);
+        }
+        assert node.command == null : "Word " + word + " is already registered";
+        node.command = name;
+    }
+
+    private static String joinChoices(List<String> choices) {
+        int last = choices.size() - 1;
+        return String.join(", ", choices.subList(0, last)) + " or " + choices.get(last);
+    }
+
+    /**
+     * A trie node. Children are kept in two parallel arrays sorted by character, which stay
+     * small because few commands share a prefix.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        /** The command whose name or alias ends at this node, if any. */
+        private String command;
+        /** The only command below this node, or null if there are several. */
+        private String onlyCommand;
+        private boolean isShared;
+
+        private Node getChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        private Node getOrAddChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int insertAt = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = new Node();
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        private void addCommand(String name) {
+            if (isShared || name.equals(onlyCommand)) {
+                return;
+            }
+            if (onlyCommand == null) {
+                onlyCommand = name;
+            } else {
+                onlyCommand = null;
+                isShared = true;
+            }
+        }
+
+        private void collectCommands(TreeSet<String> names) {
+            if (command != null) {
+                names.add(command);
+            }
+            for (Node child : children) {
+                child.collectCommands(names);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package echo.command;
+
+import echo.parser.ParsedCommand;
+import echo.task.Task;
+import echo.util.ParseResult;
+
+/**
+ * Creates the task that a command such as todo, deadline or event adds.
+ * Creating a task only depends on the command itself, not on the task list.
+ */
+@FunctionalInterface
+public interface TaskFactory {
+
+    /**
+     * Creates the task described by the command.
+     *
+     * @param command The user input, with its command word already resolved to the command's name.
+     * @return The new task, or an error if the command's arguments are missing or invalid.
+     */
+    ParseResult<Task> create(ParsedCommand command);
+}
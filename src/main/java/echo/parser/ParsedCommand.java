@@ -0,0 +1,154 @@
+package echo.parser;
+
+import java.util.Arrays;
+
+/**
+ * A user input split into its command word, its arguments and the positions of the flags
+ * (/by, /from, /to, /repeat) within the arguments.
+ * The input is scanned once when the ParsedCommand is created, without regular expressions;
+ * {@link Parser} then reads the parts it needs from the recorded positions instead of
+ * splitting the input again.
+ */
+public class ParsedCommand {
+    static final String FLAG_BY = " /by ";
+    static final String FLAG_FROM = " /from ";
+    static final String FLAG_TO = " /to ";
+    static final String FLAG_REPEAT = " /repeat ";
+    private static final String[] FLAGS = {FLAG_BY, FLAG_FROM, FLAG_TO, FLAG_REPEAT};
+
+    private final String input;
+    private final String command;
+    private final String arguments;
+    private int[] flagPositions = new int[4];
+    private String[] flagNames = new String[4];
+    private int flagCount;
+
+    private ParsedCommand(String input, String command, String arguments) {
+        this.input = input;
+        this.command = command;
+        this.arguments = arguments;
+        findFlags();
+    }
+
+    private ParsedCommand(String input, String command, ParsedCommand flagsSource) {
+        this.input = input;
+        this.command = command;
+        this.arguments = flagsSource.arguments;
+        this.flagPositions = flagsSource.flagPositions;
+        this.flagNames = flagsSource.flagNames;
+        this.flagCount = flagsSource.flagCount;
+    }
+
+    /**
+     * Parses a full user input.
+     *
+     * @param input The user input, e.g. "deadline report /by 2025-01-01".
+     * @return The parsed command.
+     */
+    public static ParsedCommand parse(String input) {
+        assert input != null : "Input cannot be null";
+        String command = input.substring(0, Parser.indexOfWhitespace(input, 0));
+        return new ParsedCommand(input, command, Parser.getDescription(input, command));
+    }
+
+    /**
+     * Parses the arguments of a command on their own, e.g. "report /by 2025-01-01".
+     *
+     * @param arguments The arguments to parse.
+     * @return The parsed arguments, with an empty command word.
+     */
+    public static ParsedCommand ofArguments(String arguments) {
+        assert arguments != null : "Arguments cannot be null";
+        return new ParsedCommand(arguments, "", arguments);
+    }
+
+    /**
+     * Returns this command with its command word replaced, e.g. to expand "ls --page 2" to
+     * "list --page 2". The arguments and their flags are reused rather than scanned again.
+     *
+     * @param newCommand The command word to use instead.
+     * @return The command with the new command word, or this command if the word is the same.
+     */
+    public ParsedCommand withCommand(String newCommand) {
+        if (newCommand.equals(command)) {
+            return this;
+        }
+        return new ParsedCommand(newCommand + input.substring(command.length()), newCommand, this);
+    }
+
+    /**
+     * Returns the full user input.
+     *
+     * @return The input as given.
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Returns the command word, i.e. the text before the first whitespace.
+     *
+     * @return The command word, which is empty if the input starts with whitespace.
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Returns the text after the command word, trimmed.
+     *
+     * @return The arguments, or an empty string if there are none.
+     */
+    public String getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Returns the position of the first occurrence of a flag in the arguments.
+     */
+    int indexOfFlag(String flag) {
+        for (int i = 0; i < flagCount; i++) {
+            if (flagNames[i].equals(flag)) {
+                return flagPositions[i];
+            }
+        }
+        return -1;
+    }
+
+    int getFlagCount() {
+        return flagCount;
+    }
+
+    int getFlagPosition(int i) {
+        return flagPositions[i];
+    }
+
+    String getFlagName(int i) {
+        return flagNames[i];
+    }
+
+    /**
+     * Records every position in the arguments at which a flag starts. Flags may share their
+     * surrounding spaces, as in "a /to /by b", so each position is checked independently.
+     */
+    private void findFlags() {
+        for (int i = arguments.indexOf(" /"); i >= 0; i = arguments.indexOf(" /", i + 1)) {
+            for (String flag : FLAGS) {
+                if (arguments.startsWith(flag, i)) {
+                    addFlag(i, flag);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void addFlag(int position, String flag) {
+        if (flagCount == flagPositions.length) {
+            flagPositions = Arrays.copyOf(flagPositions, flagCount * 2);
+            flagNames = Arrays.copyOf(flagNames, flagCount * 2);
+        }
+        flagPositions[flagCount] = position;
+        flagNames[flagCount] = flag;
+        flagCount++;
+    }
+}
@@ -1,20 +1,31 @@
 package echo.parser;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
 import echo.exception.EchoException;
 import echo.util.InputValidator;
+import echo.util.ParseResult;
 
 /**
  * Handles parsing of user input commands.
  * Provides static methods to extract and validate different parts of user commands.
+ * Input is split by hand-written scans rather than regular expressions; commands that take
+ * flags are read from a {@link ParsedCommand}, which finds all flags in a single pass.
  */
 public class Parser {
 
-    private static final String DELIMITER_BY = " /by ";
-    private static final String DELIMITER_FROM = " /from ";
-    private static final String DELIMITER_TO = " /to ";
+    private static final String DELIMITER_BY = ParsedCommand.FLAG_BY;
+    private static final String DELIMITER_FROM = ParsedCommand.FLAG_FROM;
+    private static final String DELIMITER_TO = ParsedCommand.FLAG_TO;
     private static final int MIN_PARTS_DEADLINE = 2;
     private static final int MIN_PARTS_EVENT = 3;
-    private static final String DELIMITER_REPEAT = " /repeat ";
+    private static final String DELIMITER_REPEAT = ParsedCommand.FLAG_REPEAT;
+    private static final String SEPARATOR_LIST = ",";
+    private static final String SEPARATOR_RANGE = "-";
+    private static final String OPTION_PREFIX = "--";
+    private static final String MESSAGE_MISSING_TASK_NUMBER = "Please provide a task number.";
 
     /**
      * Extracts the command word from the user input.
@@ -24,7 +35,7 @@ public class Parser {
      */
     public static String getCommand(String input) {
         assert input != null : "Input cannot be null";
-        return input.split("\\s+")[0];
+        return input.substring(0, indexOfWhitespace(input, 0));
     }
 
     /**
@@ -55,13 +66,71 @@ public class Parser {
      */
     public static int getTaskNumber(String input) throws EchoException {
         assert input != null : "Input should not be null";
-        String[] parts = input.split("\\s+");
+        String[] parts = splitWords(input);
         if (parts.length < 2 || parts[1].trim().isEmpty()) {
-            throw new EchoException("Please provide a task number.");
+            throw new EchoException(MESSAGE_MISSING_TASK_NUMBER);
         }
         return InputValidator.requirePositiveInteger(parts[1], "Task number");
     }
 
+    /**
+     * Parses a selection of task numbers from user input for bulk mark/unmark/delete commands.
+     * Accepts single numbers, inclusive ranges and comma-separated combinations of both,
+     * e.g. "mark 1-500" or "delete 3,7,9-20".
+     *
+     * @param input     The full user input string containing the task selection.
+     * @param taskCount The number of tasks currently in the list.
+     * @return The selected task indices (0-based), sorted in ascending order without duplicates.
+     * @throws EchoException If the selection is missing, malformed, or refers to a task that doesn't exist.
+     */
+    public static int[] getTaskNumbers(String input, int taskCount) throws EchoException {
+        return tryGetTaskNumbers(input, taskCount).orElseThrow();
+    }
+
+    /**
+     * Parses a selection of task numbers like {@link #getTaskNumbers(String, int)}, but returns
+     * invalid selections as an error result instead of throwing.
+     *
+     * @param input     The full user input string containing the task selection.
+     * @param taskCount The number of tasks currently in the list.
+     * @return The selected task indices (0-based), or the reason the selection is invalid.
+     */
+    public static ParseResult<int[]> tryGetTaskNumbers(String input, int taskCount) {
+        assert input != null : "Input should not be null";
+        String trimmed = input.trim();
+        int end = indexOfWhitespace(trimmed, 0);
+        String selection = trimmed.substring(indexOfNonWhitespace(trimmed, end));
+        if (end == trimmed.length() || selection.trim().isEmpty()) {
+            return ParseResult.failure(MESSAGE_MISSING_TASK_NUMBER);
+        }
+
+        BitSet selected = new BitSet(taskCount);
+        for (String item : selection.split(SEPARATOR_LIST)) {
+            String[] bounds = item.split(SEPARATOR_RANGE, 2);
+            ParseResult<Integer> first = InputValidator.parsePositiveInteger(bounds[0], "Task number");
+            if (!first.isSuccess()) {
+                return ParseResult.failure(first.getErrorMessage());
+            }
+            ParseResult<Integer> last = bounds.length > 1
+                    ? InputValidator.parsePositiveInteger(bounds[1], "Task number") : first;
+            if (!last.isSuccess()) {
+                return ParseResult.failure(last.getErrorMessage());
+            }
+            if (last.getValue() < first.getValue()) {
+                return ParseResult.failure("Invalid range '" + item.trim() + "'. Use: <first>-<last>, e.g. 3-7");
+            }
+            ParseResult<Integer> index = InputValidator.checkValidTaskIndex(first.getValue() - 1, taskCount);
+            if (index.isSuccess()) {
+                index = InputValidator.checkValidTaskIndex(last.getValue() - 1, taskCount);
+            }
+            if (!index.isSuccess()) {
+                return ParseResult.failure(index.getErrorMessage());
+            }
+            selected.set(first.getValue() - 1, last.getValue());
+        }
+        return ParseResult.success(selected.stream().toArray());
+    }
+
     /**
      * Parses a deadline command to extract the task description and due date.
      * Expected format: "description /by date"
@@ -74,12 +143,38 @@ public class Parser {
      * @throws EchoException If the /by keyword is missing or if description or date is empty.
      */
     public static String[] parseDeadline(String description) throws EchoException {
-        InputValidator.requireDelimiter(description, DELIMITER_BY,
-                "Deadlines need a date! Use: deadline <task> /by <date>");
-        String[] parts = description.split(DELIMITER_BY, 2);
-        InputValidator.requireMinParts(parts, MIN_PARTS_DEADLINE,
-                "Please provide both description and deadline date.");
-        return new String[]{parts[0].trim(), parts[1].trim()};
+        return parseDeadline(ParsedCommand.ofArguments(description));
+    }
+
+    /**
+     * Parses the arguments of a deadline command to extract the task description and due date.
+     *
+     * @param command The parsed deadline command.
+     * @return A string array with [0] = task description, [1] = due date.
+     * @throws EchoException If the /by keyword is missing or if description or date is empty.
+     */
+    public static String[] parseDeadline(ParsedCommand command) throws EchoException {
+        return tryParseDeadline(command).orElseThrow();
+    }
+
+    /**
+     * Parses the arguments of a deadline command like {@link #parseDeadline(ParsedCommand)}, but
+     * returns invalid input as an error result instead of throwing.
+     *
+     * @param command The parsed deadline command.
+     * @return The task description and due date, or the reason the command is invalid.
+     */
+    public static ParseResult<String[]> tryParseDeadline(ParsedCommand command) {
+        int by = command.indexOfFlag(DELIMITER_BY);
+        if (by < 0) {
+            return ParseResult.failure("Deadlines need a date! Use: deadline <task> /by <date>");
+        }
+        String arguments = command.getArguments();
+        String[] parts = {arguments.substring(0, by), arguments.substring(by + DELIMITER_BY.length())};
+        if (!InputValidator.hasMinParts(parts, MIN_PARTS_DEADLINE)) {
+            return ParseResult.failure("Please provide both description and deadline date.");
+        }
+        return ParseResult.success(new String[]{parts[0].trim(), parts[1].trim()});
     }
 
     /**
@@ -94,16 +189,84 @@ public class Parser {
      * @throws EchoException If /from or /to keywords are missing, or if any component is empty.
      */
     public static String[] parseEvent(String description) throws EchoException {
-        if (!description.contains(DELIMITER_FROM)) {
-            throw new EchoException("Events need a start time! Use: event <task> /from <time> /to <time>");
+        return tryParseEvent(ParsedCommand.ofArguments(description), 0, description.length()).orElseThrow();
+    }
+
+    /**
+     * Parses the arguments of an event command, ignoring any /repeat part, to extract the task
+     * description, start time, and end time.
+     *
+     * @param command The parsed event command.
+     * @return A string array with [0] = task description, [1] = start time, [2] = end time.
+     * @throws EchoException If /from or /to keywords are missing, or if any component is empty.
+     */
+    public static String[] parseEvent(ParsedCommand command) throws EchoException {
+        return tryParseEvent(command).orElseThrow();
+    }
+
+    /**
+     * Parses the arguments of an event command like {@link #parseEvent(ParsedCommand)}, but
+     * returns invalid input as an error result instead of throwing.
+     *
+     * @param command The parsed event command.
+     * @return The task description, start time and end time, or the reason the command is invalid.
+     */
+    public static ParseResult<String[]> tryParseEvent(ParsedCommand command) {
+        String arguments = command.getArguments();
+        int repeat = command.indexOfFlag(DELIMITER_REPEAT);
+        if (repeat < 0) {
+            return tryParseEvent(command, 0, arguments.length());
+        }
+        // Same bounds as removeRecurrence(arguments).trim(), without copying the text
+        int start = 0;
+        int end = repeat;
+        while (start < end && arguments.charAt(start) <= ' ') {
+            start++;
         }
-        if (!description.contains(DELIMITER_TO)) {
-            throw new EchoException("Events need an end time! Use: event <task> /from <time> /to <time>");
+        while (end > start && arguments.charAt(end - 1) <= ' ') {
+            end--;
         }
-        String[] parts = description.split(DELIMITER_FROM + "|" + DELIMITER_TO);
-        InputValidator.requireMinParts(parts, MIN_PARTS_EVENT,
-                "Please provide event description, start time, and end time.");
-        return new String[]{parts[0].trim(), parts[1].trim(), parts[2].trim()};
+        return tryParseEvent(command, start, end);
+    }
+
+    /**
+     * Splits the arguments between {@code start} and {@code end} at every /from and /to,
+     * keeping the first three parts.
+     */
+    private static ParseResult<String[]> tryParseEvent(ParsedCommand command, int start, int end) {
+        String arguments = command.getArguments();
+        List<String> parts = new ArrayList<>(MIN_PARTS_EVENT);
+        boolean hasFrom = false;
+        boolean hasTo = false;
+        int partStart = start;
+        for (int i = 0; i < command.getFlagCount(); i++) {
+            String flag = command.getFlagName(i);
+            int position = command.getFlagPosition(i);
+            if (position < start || position + flag.length() > end
+                    || !flag.equals(DELIMITER_FROM) && !flag.equals(DELIMITER_TO)) {
+                continue;
+            }
+            hasFrom |= flag.equals(DELIMITER_FROM);
+            hasTo |= flag.equals(DELIMITER_TO);
+            if (position >= partStart) {
+                parts.add(arguments.substring(partStart, position));
+                partStart = position + flag.length();
+            }
+        }
+        parts.add(arguments.substring(partStart, end));
+        if (!hasFrom) {
+            return ParseResult.failure("Events need a start time! Use: event <task> /from <time> /to <time>");
+        }
+        if (!hasTo) {
+            return ParseResult.failure("Events need an end time! Use: event <task> /from <time> /to <time>");
+        }
+        while (!parts.isEmpty() && parts.get(parts.size() - 1).isEmpty()) {
+            parts.remove(parts.size() - 1);
+        }
+        if (!InputValidator.hasMinParts(parts.toArray(new String[0]), MIN_PARTS_EVENT)) {
+            return ParseResult.failure("Please provide event description, start time, and end time.");
+        }
+        return ParseResult.success(new String[]{parts.get(0).trim(), parts.get(1).trim(), parts.get(2).trim()});
     }
 
     /**
@@ -114,13 +277,18 @@ public class Parser {
      * @return The recurrence pattern ("daily", "weekly", "monthly"), or null if not present.
      */
     public static String extractRecurrence(String description) {
-        if (description.contains(DELIMITER_REPEAT)) {
-            String[] parts = description.split(DELIMITER_REPEAT, 2);
-            if (parts.length > 1) {
-                return parts[1].trim();
-            }
-        }
-        return null;
+        return extractRecurrence(ParsedCommand.ofArguments(description));
+    }
+
+    /**
+     * Extracts the recurrence pattern from a parsed event command.
+     *
+     * @param command The parsed event command.
+     * @return The text after /repeat, or null if not present.
+     */
+    public static String extractRecurrence(ParsedCommand command) {
+        int repeat = command.indexOfFlag(DELIMITER_REPEAT);
+        return repeat < 0 ? null : command.getArguments().substring(repeat + DELIMITER_REPEAT.length()).trim();
     }
 
     /**
@@ -130,9 +298,97 @@ public class Parser {
      * @return The description without the /repeat portion.
      */
     public static String removeRecurrence(String description) {
-        if (description.contains(DELIMITER_REPEAT)) {
-            return description.split(DELIMITER_REPEAT, 2)[0].trim();
+        int repeat = description.indexOf(DELIMITER_REPEAT);
+        return repeat < 0 ? description : description.substring(0, repeat).trim();
+    }
+
+    /**
+     * Extracts the value of a "--name value" option from a command's arguments.
+     * Expected format: "... --page 3 --size 50"
+     *
+     * @param description The arguments that may contain the option.
+     * @param option      The option name, including the leading "--".
+     * @return The word following the option, or null if the option is not present or has no value.
+     */
+    public static String extractOption(String description, String option) {
+        assert option.startsWith(OPTION_PREFIX) : "Options must start with " + OPTION_PREFIX;
+        String[] words = splitWords(description.trim());
+        for (int i = 0; i < words.length - 1; i++) {
+            if (words[i].equals(option)) {
+                return words[i + 1];
+            }
         }
-        return description;
+        return null;
+    }
+
+    /**
+     * Removes all "--name value" options from a command's arguments.
+     *
+     * @param description The arguments that may contain options.
+     * @return The arguments without any options, or the original arguments if there were none.
+     */
+    public static String removeOptions(String description) {
+        if (!description.startsWith(OPTION_PREFIX) && !description.contains(" " + OPTION_PREFIX)) {
+            return description;
+        }
+        StringBuilder remaining = new StringBuilder();
+        String[] words = splitWords(description.trim());
+        for (int i = 0; i < words.length; i++) {
+            if (words[i].startsWith(OPTION_PREFIX)) {
+                i++;
+            } else {
+                remaining.append(remaining.length() == 0 ? "" : " ").append(words[i]);
+            }
+        }
+        return remaining.toString();
+    }
+
+    /**
+     * Splits text into words separated by runs of whitespace. Behaves like
+     * {@code text.split("\\s+")}, including the empty first word when the text starts with
+     * whitespace, without compiling a regular expression.
+     *
+     * @param text The text to split.
+     * @return The words of the text.
+     */
+    public static String[] splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = indexOfWhitespace(text, start);
+            words.add(text.substring(start, end));
+            start = indexOfNonWhitespace(text, end);
+        }
+        if (text.isEmpty()) {
+            return new String[]{""};
+        }
+        if (words.isEmpty() || words.size() == 1 && words.get(0).isEmpty()) {
+            return new String[0];
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the index of the first whitespace character at or after {@code from}, or the
+     * length of the text if there is none. Whitespace is as matched by {@code \\s}.
+     */
+    static int indexOfWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && !isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int indexOfNonWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
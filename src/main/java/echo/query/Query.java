@@ -0,0 +1,120 @@
+package echo.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import echo.task.Task;
+import echo.tasklist.SortKey;
+import echo.tasklist.SortedView;
+import echo.tasklist.TaskList;
+
+/**
+ * Represents a compiled query over a task list.
+ * A query is a filter, an optional sort order and an optional result limit. It is compiled once
+ * by {@link QueryCompiler} and can then be executed against any number of task lists.
+ * Queries sorted in the order of a {@link SortKey} read from the list's sorted view of that
+ * order when the list has one, instead of sorting the matches.
+ */
+public class Query {
+    private final Predicate<Task> filter;
+    private final Comparator<Task> order;
+    private final SortKey indexedOrder;
+    private final int limit;
+
+    /**
+     * Constructs a Query.
+     *
+     * @param filter       The condition a task must satisfy to be included in the results.
+     * @param order        The order of the results, or null to keep list order.
+     * @param indexedOrder The sort key equivalent to the order, or null if there is none.
+     * @param limit        The maximum number of results.
+     */
+    Query(Predicate<Task> filter, Comparator<Task> order, SortKey indexedOrder, int limit) {
+        assert filter != null : "Filter cannot be null";
+        assert limit > 0 : "Limit must be positive";
+        this.filter = filter;
+        this.order = order;
+        this.indexedOrder = indexedOrder;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the sort key whose sorted view can answer this query.
+     *
+     * @return The sort key, or null if the query is unsorted or sorted in another order.
+     */
+    public SortKey getIndexedOrder() {
+        return indexedOrder;
+    }
+
+    /**
+     * Runs this query against a task list.
+     * Unsorted queries stop scanning as soon as the limit is reached, and so do sorted queries
+     * answered from a sorted view. Other sorted queries keep only the best results in a bounded
+     * heap rather than sorting every match.
+     *
+     * @param tasks The tasks to query.
+     * @return The indices (0-based) of the matching tasks, in result order.
+     */
+    public int[] execute(TaskList tasks) {
+        if (tasks.size() == 0) {
+            return new int[0];
+        }
+        if (order == null) {
+            return scanInListOrder(tasks);
+        }
+        SortedView view = indexedOrder == null ? null : tasks.findSortedView(indexedOrder);
+        if (view != null) {
+            return view.select(filter, limit);
+        }
+
+        Comparator<Match> resultOrder = Comparator.<Match, Task>comparing(match -> match.task, order)
+                .thenComparingInt(match -> match.index);
+        PriorityQueue<Match> best = new PriorityQueue<>(resultOrder.reversed());
+        Iterator<Task> iterator = tasks.iterator(0);
+        for (int i = 0; iterator.hasNext(); i++) {
+            Task task = iterator.next();
+            if (!filter.test(task)) {
+                continue;
+            }
+            best.add(new Match(i, task));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        int[] indices = new int[best.size()];
+        for (int i = indices.length - 1; i >= 0; i--) {
+            indices[i] = best.poll().index;
+        }
+        return indices;
+    }
+
+    private int[] scanInListOrder(TaskList tasks) {
+        List<Integer> indices = new ArrayList<>();
+        Iterator<Task> iterator = tasks.iterator(0);
+        for (int i = 0; iterator.hasNext() && indices.size() < limit; i++) {
+            if (filter.test(iterator.next())) {
+                indices.add(i);
+            }
+        }
+        return indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A task that matched the query, together with its position in the task list.
+     */
+    private static class Match {
+        private final int index;
+        private final Task task;
+
+        private Match(int index, Task task) {
+            this.index = index;
+            this.task = task;
+        }
+    }
+}
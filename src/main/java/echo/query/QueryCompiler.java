@@ -0,0 +1,230 @@
+package echo.query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import echo.exception.EchoException;
+import echo.task.Task;
+import echo.tasklist.SortKey;
+import echo.util.DateTimeParser;
+import echo.util.InputValidator;
+import echo.util.TextFolder;
+
+/**
+ * Compiles query strings such as "type:D done:false due&lt;2025-01-01 text:report sort:due limit:20"
+ * into {@link Query} objects.
+ * Recently compiled queries are kept in a small LRU cache, so repeating a query skips parsing.
+ *
+ * Supported terms (all filters must hold):
+ * type:T|D|E, done:true|false, due&lt;DATE, due&lt;=DATE, due&gt;DATE, due&gt;=DATE, due:DATE,
+ * text:WORD (or a bare WORD), sort:due|status|type|text (prefix with "-" to reverse) and limit:N.
+ */
+public class QueryCompiler {
+    private static final int CACHE_CAPACITY = 64;
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_DONE = "done";
+    private static final String FIELD_DUE = "due";
+    private static final String FIELD_TEXT = "text";
+    private static final String FIELD_SORT = "sort";
+    private static final String FIELD_LIMIT = "limit";
+    private static final String DESCENDING = "-";
+    private static final String USAGE = "Try: type:D done:false due<2025-01-01 text:report sort:due limit:20";
+
+    private static final Map<String, Query> CACHE = new LinkedHashMap<>(CACHE_CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Query> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    /**
+     * Compiles a query string, reusing a cached compilation of the same string if there is one.
+     *
+     * @param queryString The query to compile.
+     * @return The compiled query.
+     * @throws EchoException If the query contains an unknown or malformed term.
+     */
+    public static Query compile(String queryString) throws EchoException {
+        String key = queryString.trim();
+        synchronized (CACHE) {
+            Query cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Query query = parse(key);
+        synchronized (CACHE) {
+            CACHE.put(key, query);
+        }
+        return query;
+    }
+
+    private static Query parse(String queryString) throws EchoException {
+        InputValidator.requireNonEmpty(queryString, "Query");
+        Predicate<Task> filter = task -> true;
+        Comparator<Task> order = null;
+        SortKey indexedOrder = null;
+        int sortTermCount = 0;
+        int limit = Integer.MAX_VALUE;
+
+        for (String term : queryString.split("\\s+")) {
+            int opStart = indexOfOperator(term);
+            if (opStart <= 0) {
+                filter = filter.and(textFilter(term));
+                continue;
+            }
+            String field = term.substring(0, opStart);
+            String operator = getOperator(term, opStart);
+            String value = term.substring(opStart + operator.length());
+            if (value.isEmpty()) {
+                throw new EchoException("Query term '" + term + "' is missing a value. " + USAGE);
+            }
+
+            switch (field) {
+            case FIELD_TYPE:
+                requireOperator(term, operator, ":");
+                filter = filter.and(typeFilter(value));
+                break;
+            case FIELD_DONE:
+                requireOperator(term, operator, ":");
+                filter = filter.and(doneFilter(term, value));
+                break;
+            case FIELD_DUE:
+                filter = filter.and(dueFilter(term, operator, value));
+                break;
+            case FIELD_TEXT:
+                requireOperator(term, operator, ":");
+                filter = filter.and(textFilter(value));
+                break;
+            case FIELD_SORT:
+                requireOperator(term, operator, ":");
+                order = order == null ? sortOrder(term, value) : order.thenComparing(sortOrder(term, value));
+                indexedOrder = SortKey.fromName(value);
+                sortTermCount++;
+                break;
+            case FIELD_LIMIT:
+                requireOperator(term, operator, ":");
+                limit = InputValidator.requirePositiveInteger(value, "Query limit");
+                break;
+            default:
+                throw new EchoException("I don't know the query field '" + field + "'. " + USAGE);
+            }
+        }
+        // A single ascending sort by due, status or type is the order a sorted view keeps
+        return new Query(filter, order, sortTermCount == 1 ? indexedOrder : null, limit);
+    }
+
+    private static int indexOfOperator(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == ':' || c == '<' || c == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String getOperator(String term, int opStart) {
+        char c = term.charAt(opStart);
+        if (c != ':' && opStart + 1 < term.length() && term.charAt(opStart + 1) == '=') {
+            return c + "=";
+        }
+        return String.valueOf(c);
+    }
+
+    private static void requireOperator(String term, String operator, String expected) throws EchoException {
+        if (!operator.equals(expected)) {
+            throw new EchoException("Query term '" + term + "' must use '" + expected + "'. " + USAGE);
+        }
+    }
+
+    private static Predicate<Task> typeFilter(String value) throws EchoException {
+        String types = value.toUpperCase();
+        for (String type : types.split(",")) {
+            if (!type.equals("T") && !type.equals("D") && !type.equals("E")) {
+                throw new EchoException("Task type must be T, D or E, but was '" + type + "'.");
+            }
+        }
+        return task -> types.contains(task.getTypeIcon());
+    }
+
+    private static Predicate<Task> doneFilter(String term, String value) throws EchoException {
+        if (value.equals("true")) {
+            return Task::isDone;
+        } else if (value.equals("false")) {
+            return task -> !task.isDone();
+        }
+        throw new EchoException("Query term '" + term + "' must be done:true or done:false.");
+    }
+
+    private static Predicate<Task> textFilter(String keyword) {
+        String foldedKeyword = TextFolder.fold(keyword);
+        return task -> task.getSearchKey().contains(foldedKeyword);
+    }
+
+    /**
+     * Builds a date filter. Date-only values cover the whole day, so "due&lt;=2025-01-01" includes
+     * tasks due at any time on that day. Tasks without a parsed date never match.
+     */
+    private static Predicate<Task> dueFilter(String term, String operator, String value) throws EchoException {
+        LocalDateTime dateTime = DateTimeParser.parseDateTime(value);
+        LocalDate date = dateTime == null ? DateTimeParser.parseDate(value) : null;
+        if (dateTime == null && date == null) {
+            throw new EchoException("Query term '" + term + "' needs a date like 2025-01-01.");
+        }
+        LocalDateTime start = dateTime != null ? dateTime : date.atStartOfDay();
+        LocalDateTime end = dateTime != null ? dateTime : date.atTime(LocalTime.MAX);
+
+        Predicate<LocalDateTime> condition;
+        switch (operator) {
+        case ":":
+            condition = due -> !due.isBefore(start) && !due.isAfter(end);
+            break;
+        case "<":
+            condition = due -> due.isBefore(start);
+            break;
+        case "<=":
+            condition = due -> !due.isAfter(end);
+            break;
+        case ">":
+            condition = due -> due.isAfter(end);
+            break;
+        case ">=":
+            condition = due -> !due.isBefore(start);
+            break;
+        default:
+            throw new EchoException("Query term '" + term + "' has an unknown operator. " + USAGE);
+        }
+        return task -> task.getDateTime() != null && condition.test(task.getDateTime());
+    }
+
+    private static Comparator<Task> sortOrder(String term, String value) throws EchoException {
+        boolean isDescending = value.startsWith(DESCENDING);
+        String key = isDescending ? value.substring(DESCENDING.length()) : value;
+        Comparator<Task> order;
+        switch (key) {
+        case FIELD_DUE:
+            // Tasks without a date go last in either direction
+            Comparator<LocalDateTime> byDate = Comparator.naturalOrder();
+            return Comparator.comparing(Task::getDateTime,
+                    Comparator.nullsLast(isDescending ? byDate.reversed() : byDate));
+        case "status":
+            order = Comparator.comparing(Task::isDone);
+            break;
+        case FIELD_TYPE:
+            order = Comparator.comparing(Task::getTypeIcon);
+            break;
+        case FIELD_TEXT:
+            order = Comparator.comparing(Task::getDescription);
+            break;
+        default:
+            throw new EchoException("Query term '" + term + "' must sort by due, status, type or text.");
+        }
+        return isDescending ? order.reversed() : order;
+    }
+}
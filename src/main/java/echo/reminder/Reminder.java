@@ -0,0 +1,54 @@
+package echo.reminder;
+
+import java.time.LocalDateTime;
+
+import echo.task.Event;
+import echo.task.Task;
+import echo.util.DateTimeParser;
+
+/**
+ * A reminder that a task is coming up.
+ */
+public class Reminder {
+    private final Task task;
+    private final LocalDateTime occurrence;
+
+    /**
+     * Constructs a Reminder.
+     *
+     * @param task       The task to remind about.
+     * @param occurrence When the task is due or, for events, when this occurrence starts.
+     */
+    Reminder(Task task, LocalDateTime occurrence) {
+        this.task = task;
+        this.occurrence = occurrence;
+    }
+
+    /**
+     * Returns the task this reminder is for.
+     *
+     * @return The task.
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * Returns when the task is due or, for events, when this occurrence starts.
+     *
+     * @return The date and time of the task.
+     */
+    public LocalDateTime getOccurrence() {
+        return occurrence;
+    }
+
+    /**
+     * Returns the message to show the user, e.g. "Reminder: submit report is due at Jan 15 2025, 6:00PM".
+     *
+     * @return The reminder message.
+     */
+    public String getMessage() {
+        String verb = task instanceof Event ? " starts at " : " is due at ";
+        return "Reminder: " + task.getDescription() + verb + DateTimeParser.formatDateTime(occurrence);
+    }
+}
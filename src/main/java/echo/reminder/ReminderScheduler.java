@@ -0,0 +1,156 @@
+package echo.reminder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import echo.task.Event;
+import echo.task.Recurrence;
+import echo.task.Task;
+import echo.tasklist.TaskListListener;
+
+/**
+ * Sends reminders shortly before undone tasks are due and events start.
+ * Registered as a listener on a task list, it schedules a reminder on a {@link TimerWheel}
+ * for every task added and cancels it when the task is removed or marked done, each in O(1)
+ * time. Recurring events are rescheduled for their next occurrence each time a reminder fires.
+ * A single background thread advances the wheel once a minute, however many reminders are pending.
+ */
+public class ReminderScheduler implements TaskListListener {
+    private static final long TICK_SECONDS = 60;
+
+    private final Duration leadTime;
+    private final Consumer<Reminder> notifier;
+    private final Map<Task, TimerWheel.Timeout<Reminder>> timeouts = new IdentityHashMap<>();
+    private TimerWheel<Reminder> wheel;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * Constructs a ReminderScheduler with no pending reminders.
+     *
+     * @param leadTime How long before a task is due its reminder is sent.
+     * @param now      The current time; tasks due to be reminded of before then are skipped.
+     * @param notifier The callback that receives reminders as they fire.
+     */
+    public ReminderScheduler(Duration leadTime, LocalDateTime now, Consumer<Reminder> notifier) {
+        this.leadTime = leadTime;
+        this.notifier = notifier;
+        this.wheel = new TimerWheel<>(toTick(now));
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        LocalDateTime occurrence = task.getDateTime();
+        if (task.isDone() || occurrence == null) {
+            return;
+        }
+        Recurrence recurrence = task instanceof Event ? ((Event) task).getRecurrence() : null;
+        if (recurrence != null && toTick(occurrence.minus(leadTime)) <= wheel.getCurrentTick()) {
+            // Jump to the first occurrence still to be reminded of instead of stepping through the past ones.
+            LocalDateTime start = occurrence;
+            occurrence = recurrence.firstAfter(start, fromTick(wheel.getCurrentTick()).plus(leadTime));
+            while (toTick(occurrence.minus(leadTime)) <= wheel.getCurrentTick()) {
+                occurrence = recurrence.firstAfter(start, occurrence);
+            }
+        }
+        schedule(new Reminder(task, occurrence));
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        TimerWheel.Timeout<Reminder> timeout = timeouts.remove(task);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    @Override
+    public synchronized void tasksReset(Iterable<Task> tasks) {
+        wheel = new TimerWheel<>(wheel.getCurrentTick());
+        timeouts.clear();
+        tasks.forEach(this::taskAdded);
+    }
+
+    /**
+     * Sends the reminders that are due by the given time.
+     *
+     * @param now The current time.
+     */
+    public void advanceTo(LocalDateTime now) {
+        List<Reminder> fired = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(toTick(now), reminder -> {
+                fired.add(reminder);
+                timeouts.remove(reminder.getTask());
+                rescheduleIfRecurring(reminder);
+            });
+        }
+        fired.forEach(notifier);
+    }
+
+    /**
+     * Returns the number of reminders waiting to be sent.
+     *
+     * @return The number of pending reminders.
+     */
+    public synchronized int getPendingCount() {
+        return wheel.size();
+    }
+
+    /**
+     * Starts a background thread that sends reminders as they become due.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "echo-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> advanceTo(LocalDateTime.now()), 0, TICK_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the background thread. Pending reminders are kept.
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    private void schedule(Reminder reminder) {
+        long tick = toTick(reminder.getOccurrence().minus(leadTime));
+        if (tick <= wheel.getCurrentTick()) {
+            return;
+        }
+        timeouts.put(reminder.getTask(), wheel.schedule(reminder, tick));
+    }
+
+    private void rescheduleIfRecurring(Reminder reminder) {
+        Task task = reminder.getTask();
+        Recurrence recurrence = task instanceof Event ? ((Event) task).getRecurrence() : null;
+        if (recurrence != null) {
+            schedule(new Reminder(task, recurrence.firstAfter(task.getDateTime(), reminder.getOccurrence())));
+        }
+    }
+
+    private static LocalDateTime fromTick(long tick) {
+        return LocalDateTime.ofEpochSecond(tick * TICK_SECONDS, 0, ZoneOffset.UTC);
+    }
+
+    private static long toTick(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), TICK_SECONDS);
+    }
+}
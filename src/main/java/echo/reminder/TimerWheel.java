@@ -0,0 +1,224 @@
+package echo.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timer wheel holding items that expire at a given tick.
+ * Scheduling and cancelling take O(1) time. Each level has 64 slots; level 0 covers the next
+ * 64 ticks one tick per slot, and each higher level covers 64 times the span of the level below.
+ * When time reaches the start of a higher-level slot, its items are moved down ("cascaded") to
+ * the level that matches their remaining time, so every item is moved at most once per level.
+ * Items due further ahead than the wheel spans wait in the top level and are re-placed when
+ * their slot comes round.
+ *
+ * This class is not thread-safe.
+ *
+ * @param <T> The type of the scheduled items.
+ */
+public class TimerWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final Timeout<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Constructs an empty TimerWheel.
+     *
+     * @param currentTick The tick the wheel starts at.
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long currentTick) {
+        this.currentTick = currentTick;
+        slots = (Timeout<T>[][]) new Timeout<?>[LEVELS][SLOTS];
+        for (Timeout<T>[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new Timeout<>(null, 0);
+                level[i].prev = level[i];
+                level[i].next = level[i];
+            }
+        }
+    }
+
+    /**
+     * Schedules an item to expire at the given tick. Items scheduled at or before the current
+     * tick expire on the next call to {@link #advanceTo(long, Consumer)}.
+     *
+     * @param item The item to schedule.
+     * @param tick The tick at which the item expires.
+     * @return A handle that can be used to cancel the item.
+     */
+    public Timeout<T> schedule(T item, long tick) {
+        Timeout<T> timeout = new Timeout<>(item, tick);
+        place(timeout, Math.max(tick, currentTick + 1));
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels a scheduled item.
+     *
+     * @param timeout The handle returned when the item was scheduled.
+     * @return True if the item was still pending, false if it had already expired or been cancelled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Moves time forward to the given tick, passing every item that expires on the way to the
+     * callback in order of expiry. The callback may schedule new items.
+     *
+     * @param tick     The new current tick. Earlier ticks are ignored.
+     * @param onExpiry The callback receiving expired items.
+     */
+    public void advanceTo(long tick, Consumer<T> onExpiry) {
+        while (currentTick < tick) {
+            if (size == 0) {
+                currentTick = tick;
+                return;
+            }
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                int shift = SLOT_BITS * level;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    cascade(slots[level][(int) ((currentTick >>> shift) & SLOT_MASK)]);
+                }
+            }
+            expire(slots[0][(int) (currentTick & SLOT_MASK)], onExpiry);
+        }
+    }
+
+    /**
+     * Returns the number of pending items.
+     *
+     * @return The number of items that have neither expired nor been cancelled.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the current tick.
+     *
+     * @return The tick the wheel has advanced to.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Links an item into the slot for the given tick, which must not be before the current tick.
+     * Items placed for the current tick during a cascade expire in the same step.
+     */
+    private void place(Timeout<T> timeout, long tick) {
+        long delta = tick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        if (delta >= SPAN) {
+            tick = currentTick + SPAN - 1;
+        }
+        Timeout<T> head = slots[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+    }
+
+    private static <T> void unlink(Timeout<T> timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    private void cascade(Timeout<T> head) {
+        Timeout<T> timeout = detach(head);
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            place(timeout, Math.max(timeout.tick, currentTick));
+            timeout = next;
+        }
+    }
+
+    private void expire(Timeout<T> head, Consumer<T> onExpiry) {
+        Timeout<T> timeout = detach(head);
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.next = null;
+            size--;
+            onExpiry.accept(timeout.item);
+            timeout = next;
+        }
+    }
+
+    /**
+     * Empties a slot and returns its items as a null-terminated chain linked through next.
+     * The detached items are marked as no longer pending.
+     */
+    private static <T> Timeout<T> detach(Timeout<T> head) {
+        Timeout<T> first = head.next == head ? null : head.next;
+        head.prev.next = null;
+        for (Timeout<T> timeout = first; timeout != null; timeout = timeout.next) {
+            timeout.prev = null;
+        }
+        head.prev = head;
+        head.next = head;
+        return first;
+    }
+
+    /**
+     * A handle to an item scheduled on a {@link TimerWheel}.
+     *
+     * @param <T> The type of the scheduled item.
+     */
+    public static class Timeout<T> {
+        private final T item;
+        private final long tick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T item, long tick) {
+            this.item = item;
+            this.tick = tick;
+        }
+
+        /**
+         * Returns the scheduled item.
+         *
+         * @return The item.
+         */
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * Returns the tick at which the item expires.
+         *
+         * @return The expiry tick.
+         */
+        public long getTick() {
+            return tick;
+        }
+
+        /**
+         * Returns whether the item is still waiting to expire.
+         *
+         * @return False once the item has expired or been cancelled.
+         */
+        public boolean isPending() {
+            return prev != null;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package echo.schedule;
+
+import java.time.LocalDateTime;
+
+import echo.task.Event;
+
+/**
+ * Two event occurrences that overlap in time.
+ */
+public class Conflict {
+    private final int firstIndex;
+    private final Event first;
+    private final int secondIndex;
+    private final Event second;
+    private final LocalDateTime start;
+
+    /**
+     * Constructs a Conflict.
+     *
+     * @param firstIndex  The list index (0-based) of the event whose occurrence starts first.
+     * @param first       The event whose occurrence starts first.
+     * @param secondIndex The list index (0-based) of the other event.
+     * @param second      The other event.
+     * @param start       When the overlap starts.
+     */
+    Conflict(int firstIndex, Event first, int secondIndex, Event second, LocalDateTime start) {
+        this.firstIndex = firstIndex;
+        this.first = first;
+        this.secondIndex = secondIndex;
+        this.second = second;
+        this.start = start;
+    }
+
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    public Event getFirst() {
+        return first;
+    }
+
+    public int getSecondIndex() {
+        return secondIndex;
+    }
+
+    public Event getSecond() {
+        return second;
+    }
+
+    /**
+     * Returns when the overlap starts, i.e. when the later of the two occurrences starts.
+     *
+     * @return The start of the overlap.
+     */
+    public LocalDateTime getStart() {
+        return start;
+    }
+}
@@ -0,0 +1,129 @@
+package echo.schedule;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import echo.task.Event;
+import echo.task.Recurrence;
+import echo.task.Task;
+import echo.tasklist.TaskList;
+
+/**
+ * Finds overlapping event occurrences within a time window.
+ * Each event is a lazily expanded stream of occurrences, and the streams are merged in order
+ * of start time through a priority queue. A sweep over the merged occurrences keeps the
+ * occurrences still running in a second queue ordered by end time, so every occurrence is only
+ * compared with the ones it actually overlaps. For n events, m occurrences in the window and
+ * k overlaps this takes O((m + k) log n) time.
+ */
+public class ConflictDetector {
+
+    /**
+     * Returns every pair of event occurrences that overlap within the window, ordered by the
+     * time the overlap starts. Occurrences that only touch (one ends as the other starts) do not
+     * conflict, and neither do occurrences of the same event that overlap because the event lasts
+     * longer than it takes to repeat. Events without a parsed start and end are ignored.
+     *
+     * @param tasks The tasks to check.
+     * @param from  The start of the window.
+     * @param to    The end of the window (exclusive).
+     * @return The overlaps found.
+     */
+    public static List<Conflict> findConflicts(TaskList tasks, LocalDateTime from, LocalDateTime to) {
+        PriorityQueue<Occurrence> upcoming = new PriorityQueue<>(Comparator.comparing(occurrence -> occurrence.start));
+        Iterator<Task> iterator = tasks.iterator(0);
+        for (int i = 0; iterator.hasNext(); i++) {
+            Task task = iterator.next();
+            if (task instanceof Event) {
+                Occurrence first = Occurrence.first(i, (Event) task, from);
+                if (first != null && first.start.isBefore(to)) {
+                    upcoming.add(first);
+                }
+            }
+        }
+
+        List<Conflict> conflicts = new ArrayList<>();
+        PriorityQueue<Occurrence> running = new PriorityQueue<>(Comparator.comparing(occurrence -> occurrence.end));
+        while (!upcoming.isEmpty()) {
+            Occurrence current = upcoming.poll();
+            while (!running.isEmpty() && !running.peek().end.isAfter(current.start)) {
+                running.poll();
+            }
+            for (Occurrence other : running) {
+                if (other.index == current.index) {
+                    continue;
+                }
+                conflicts.add(new Conflict(other.index, other.event, current.index, current.event, current.start));
+            }
+            running.add(current);
+            Occurrence next = current.next();
+            if (next != null && next.start.isBefore(to)) {
+                upcoming.add(next);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * One occurrence of an event: the one that starts a number of periods after the event's start.
+     */
+    private static class Occurrence {
+        private final int index;
+        private final Event event;
+        private final long period;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private Occurrence(int index, Event event, long period, LocalDateTime start, LocalDateTime end) {
+            this.index = index;
+            this.event = event;
+            this.period = period;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Returns the first occurrence of the event that ends after the given time, or null if
+         * there is none or the event's times are not parsed. The occurrence is found by counting
+         * the periods from the event's start, so events that started long ago are not stepped
+         * through one occurrence at a time.
+         */
+        static Occurrence first(int index, Event event, LocalDateTime from) {
+            LocalDateTime start = event.getDateTime();
+            LocalDateTime end = event.getEndDateTime();
+            if (start == null || end == null || !end.isAfter(start)) {
+                return null;
+            }
+            Occurrence occurrence = new Occurrence(index, event, 0, start, end);
+            Recurrence recurrence = event.getRecurrence();
+            if (recurrence != null && !end.isAfter(from)) {
+                // Occurrences starting at or before this time end at or before the window does.
+                LocalDateTime latestStart = from.minus(Duration.between(start, end));
+                occurrence = occurrence.at(Math.max(0, recurrence.periodsUntil(start, latestStart)));
+            }
+            while (occurrence != null && !occurrence.end.isAfter(from)) {
+                occurrence = occurrence.next();
+            }
+            return occurrence;
+        }
+
+        /**
+         * Returns the next occurrence of a recurring event, or null if the event does not repeat.
+         */
+        Occurrence next() {
+            return event.getRecurrence() == null ? null : at(period + 1);
+        }
+
+        private Occurrence at(long period) {
+            LocalDateTime eventStart = event.getDateTime();
+            LocalDateTime nextStart = event.getRecurrence().nth(eventStart, period);
+            Duration duration = Duration.between(eventStart, event.getEndDateTime());
+            return new Occurrence(index, event, period, nextStart, nextStart.plus(duration));
+        }
+    }
+}
@@ -1,17 +1,24 @@
 package echo.storage;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Scanner;
 
 import echo.task.Deadline;
 import echo.task.Event;
+import echo.task.Recurrence;
 import echo.task.Task;
 import echo.task.Todo;
 import echo.tasklist.TaskList;
+import echo.util.StringPool;
 
 /**
  * Handles loading and saving of tasks to/from a file.
@@ -70,17 +77,18 @@ public class Storage {
             return tasks;
         }
 
+        StringPool pool = new StringPool();
         Scanner scanner = new Scanner(file);
         while (scanner.hasNextLine()) {
             String line = scanner.nextLine();
             try {
-                Task task = parseTask(line);
+                Task task = parseTask(line, pool);
                 if (task != null) {
                     tasks.add(task);
                 }
             } catch (Exception e) {
                 // Skip corrupted lines
-                System.out.println("Warning: Skipped corrupted line: " + line);
+                System.err.println("Warning: Skipped corrupted line: " + line);
             }
         }
         scanner.close();
@@ -92,9 +100,10 @@ public class Storage {
      * Expected format: "TYPE | STATUS | DESCRIPTION | [ADDITIONAL_INFO]"
      *
      * @param line The line from the file to parse.
+     * @param pool The pool that shares repeated strings between the tasks of this load.
      * @return A Task object (Todo, Deadline, or Event), or null if the line is corrupted.
      */
-    private Task parseTask(String line) {
+    private Task parseTask(String line, StringPool pool) {
         assert line != null : "Line cannot be null";
         String[] parts = line.split(DELIMITER);
         if (parts.length < MIN_PARTS) {
@@ -112,25 +121,22 @@ public class Storage {
         Task task = null;
         switch (type) {
         case TYPE_TODO:
-            task = new Todo(description);
+            task = new Todo(description, pool);
             break;
         case TYPE_DEADLINE:
             if (parts.length >= DEADLINE_PARTS) {
-                task = new Deadline(description, parts[INDEX_DEADLINE_BY]);
+                task = new Deadline(description, parts[INDEX_DEADLINE_BY], pool);
             }
             break;
         case TYPE_EVENT:
             if (parts.length >= EVENT_PARTS_WITH_RECURRENCE) {
-                // Event with recurrence
-                String recurrence = parts[INDEX_EVENT_RECURRENCE];
-                if (recurrence.equals("none")) {
-                    task = new Event(description, parts[INDEX_EVENT_FROM], parts[INDEX_EVENT_TO]);
-                } else {
-                    task = new Event(description, parts[INDEX_EVENT_FROM], parts[INDEX_EVENT_TO], recurrence);
-                }
+                // Event with recurrence ("none" maps to no recurrence, unknown names are kept as is)
+                task = new Event(description, parts[INDEX_EVENT_FROM], parts[INDEX_EVENT_TO],
+                        parts[INDEX_EVENT_RECURRENCE], pool);
             } else if (parts.length >= EVENT_PARTS) {
                 // Event without recurrence (old format, backward compatible)
-                task = new Event(description, parts[INDEX_EVENT_FROM], parts[INDEX_EVENT_TO]);
+                task = new Event(description, parts[INDEX_EVENT_FROM], parts[INDEX_EVENT_TO],
+                        (Recurrence) null, pool);
             }
             break;
         default:
@@ -148,24 +154,41 @@ public class Storage {
     /**
      * Saves the list of tasks to the storage file.
      * Creates the directory and file if they don't exist.
-     * Overwrites any existing file content.
+     * The tasks are written to a temporary file that then replaces the storage file, so a crash
+     * or a failed write leaves the previous contents intact instead of a truncated file.
      *
      * @param tasks The TaskList containing tasks to save.
      * @throws IOException If there's an error writing to the file.
      */
     public void save(TaskList tasks) throws IOException {
-        File file = new File(filePath);
+        File file = new File(filePath).getAbsoluteFile();
 
         // Create directory if it doesn't exist
         File parentDir = file.getParentFile();
-        if (parentDir != null && !parentDir.exists()) {
+        if (!parentDir.exists()) {
             parentDir.mkdirs();
         }
 
-        FileWriter writer = new FileWriter(file);
-        for (int i = 0; i < tasks.size(); i++) {
-            writer.write(tasks.get(i).toFileFormat() + "\n");
+        File tempFile = File.createTempFile(file.getName(), ".tmp", parentDir);
+        try {
+            try (Writer writer = new BufferedWriter(new FileWriter(tempFile))) {
+                for (int i = 0; i < tasks.size(); i++) {
+                    writer.write(tasks.get(i).toFileFormat());
+                    writer.write('\n');
+                }
+            }
+            replace(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    private static void replace(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
         }
-        writer.close();
     }
 }
@@ -4,11 +4,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import echo.util.DateTimeParser;
+import echo.util.StringPool;
 
 /**
  * Represents a task with a deadline.
- * Supports parsing dates in multiple formats: datetime (yyyy-MM-dd HHmm),
- * date only (yyyy-MM-dd), or plain text strings.
+ * Supports parsing dates in multiple formats: datetime (e.g. yyyy-MM-dd HHmm),
+ * date only (e.g. yyyy-MM-dd), or plain text strings.
  */
 public class Deadline extends Task {
     protected String by;
@@ -23,9 +24,21 @@ public class Deadline extends Task {
      * @param by          The due date/time as a string (supports yyyy-MM-dd HHmm, yyyy-MM-dd, or plain text).
      */
     public Deadline(String description, String by) {
-        super(description);
+        this(description, by, null);
+    }
+
+    /**
+     * Constructs a Deadline task whose description and due date are shared with equal ones
+     * through the pool.
+     *
+     * @param description The description of the deadline task.
+     * @param by          The due date/time as a string.
+     * @param pool        The pool to share strings through, or null to keep them unshared.
+     */
+    public Deadline(String description, String by, StringPool pool) {
+        super(description, pool);
         assert by != null : "Deadline 'by' parameter cannot be null";
-        this.by = by;
+        this.by = share(pool, by);
         this.dateTime = DateTimeParser.parseDateTime(by);
         if (this.dateTime == null) {
             this.date = DateTimeParser.parseDate(by);
@@ -34,6 +47,29 @@ public class Deadline extends Task {
         }
     }
 
+    @Override
+    public String getTypeIcon() {
+        return "D";
+    }
+
+    /**
+     * Returns the due date and time of this deadline.
+     *
+     * @return The due date and time, the start of the due date, or null if the due date is plain text.
+     */
+    @Override
+    public LocalDateTime getDateTime() {
+        if (dateTime != null) {
+            return dateTime;
+        }
+        return date != null ? date.atStartOfDay() : null;
+    }
+
+    @Override
+    public String getDuplicateKey() {
+        return super.getDuplicateKey() + "|" + getDateKey(dateTime, date, by);
+    }
+
     /**
      * Returns the file format representation of this deadline task.
      * Format: "D | STATUS | DESCRIPTION | DUE_DATE"
@@ -46,14 +82,14 @@ public class Deadline extends Task {
     }
 
     /**
-     * Returns the string representation of this deadline task for display.
+     * Renders this deadline task for display.
      * Formats parsed dates as "MMM d yyyy" or "MMM d yyyy, h:mma" for datetimes.
      * Falls back to the original string if parsing failed.
      *
      * @return A formatted string showing the task type, status, description, and due date.
      */
     @Override
-    public String toString() {
+    protected String render() {
         String dateString;
         if (dateTime != null) {
             dateString = DateTimeParser.formatDateTime(dateTime);
@@ -62,6 +98,6 @@ public class Deadline extends Task {
         } else {
             dateString = by;
         }
-        return "[D]" + super.toString() + " (by: " + dateString + ")";
+        return "[D]" + super.render() + " (by: " + dateString + ")";
     }
 }
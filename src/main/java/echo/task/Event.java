@@ -2,11 +2,13 @@ package echo.task;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import echo.util.DateTimeParser;
+import echo.util.StringPool;
 
 /**
  * Represents a task that occurs during a specific time period.
@@ -14,12 +16,12 @@ import echo.util.DateTimeParser;
  * date only (yyyy-MM-dd), or plain text strings.
  */
 public class Event extends Task {
-    private static final String RECURRENCE_DAILY = "daily";
-    private static final String RECURRENCE_WEEKLY = "weekly";
-    private static final String RECURRENCE_MONTHLY = "monthly";
+    private static final DateTimeFormatter OCCURRENCE_FORMAT = DateTimeFormatter.ofPattern("MMM d");
+    private static final String RECURRENCE_NONE = "none";
     protected String from;
     protected String to;
-    protected String recurrence; // "daily", "weekly", "monthly", or null
+    protected Recurrence recurrence; // null if the event does not repeat
+    private String unknownRecurrence; // a recurrence read from a file that Echo doesn't know, kept for saving
     private final LocalDateTime startDateTime;
     private final LocalDateTime endDateTime;
     private final LocalDate startDate;
@@ -33,11 +35,25 @@ public class Event extends Task {
      * @param to          The end date/time as a string (supports yyyy-MM-dd HHmm, yyyy-MM-dd, or plain text).
      */
     public Event(String description, String from, String to) {
-        super(description);
+        this(description, from, to, (Recurrence) null, null);
+    }
+
+    /**
+     * Constructs an Event task whose description and times are shared with equal ones through the pool.
+     *
+     * @param description The description of the event task.
+     * @param from        The start date/time as a string.
+     * @param to          The end date/time as a string.
+     * @param recurrence  How often the event repeats, or null if it does not.
+     * @param pool        The pool to share strings through, or null to keep them unshared.
+     */
+    public Event(String description, String from, String to, Recurrence recurrence, StringPool pool) {
+        super(description, pool);
         assert from != null : "Event 'from' parameter cannot be null";
         assert to != null : "Event 'to' parameter cannot be null";
-        this.from = from;
-        this.to = to;
+        this.from = share(pool, from);
+        this.to = share(pool, to);
+        this.recurrence = recurrence;
 
         this.startDateTime = DateTimeParser.parseDateTime(from);
         if (this.startDateTime == null) {
@@ -60,11 +76,81 @@ public class Event extends Task {
      * @param description The description of the event task.
      * @param from        The start date/time as a string.
      * @param to          The end date/time as a string.
-     * @param recurrence  The recurrence pattern ("daily", "weekly", "monthly").
+     * @param recurrence  How often the event repeats.
+     */
+    public Event(String description, String from, String to, Recurrence recurrence) {
+        this(description, from, to, recurrence, null);
+    }
+
+    /**
+     * Constructs an Event task with recurrence given by name.
+     *
+     * @param description The description of the event task.
+     * @param from        The start date/time as a string.
+     * @param to          The end date/time as a string.
+     * @param recurrence  The recurrence pattern ("daily", "weekly", "monthly"). With "none" or
+     *                    any other value the event does not repeat, but other values are kept and
+     *                    saved again unchanged.
      */
     public Event(String description, String from, String to, String recurrence) {
-        this(description, from, to);
-        this.recurrence = recurrence;
+        this(description, from, to, recurrence, null);
+    }
+
+    /**
+     * Constructs an Event task with recurrence given by name, whose description and times are
+     * shared with equal ones through the pool.
+     *
+     * @param description The description of the event task.
+     * @param from        The start date/time as a string.
+     * @param to          The end date/time as a string.
+     * @param recurrence  The recurrence pattern, as for {@link #Event(String, String, String, String)}.
+     * @param pool        The pool to share strings through, or null to keep them unshared.
+     */
+    public Event(String description, String from, String to, String recurrence, StringPool pool) {
+        this(description, from, to, Recurrence.fromName(recurrence), pool);
+        if (this.recurrence == null && !recurrence.equals(RECURRENCE_NONE)) {
+            this.unknownRecurrence = recurrence;
+        }
+    }
+
+    @Override
+    public String getTypeIcon() {
+        return "E";
+    }
+
+    /**
+     * Returns the start date and time of this event.
+     *
+     * @return The start date and time, the start of the start date, or null if the start is plain text.
+     */
+    @Override
+    public LocalDateTime getDateTime() {
+        if (startDateTime != null) {
+            return startDateTime;
+        }
+        return startDate != null ? startDate.atStartOfDay() : null;
+    }
+
+    /**
+     * Returns the end date and time of this event. An end given as a date without a time lasts
+     * until the end of that day.
+     *
+     * @return The end date and time (exclusive), or null if the end is plain text.
+     */
+    public LocalDateTime getEndDateTime() {
+        if (endDateTime != null) {
+            return endDateTime;
+        }
+        return endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+    }
+
+    /**
+     * Returns how often this event repeats.
+     *
+     * @return The recurrence, or null if the event does not repeat.
+     */
+    public Recurrence getRecurrence() {
+        return recurrence;
     }
 
     /**
@@ -80,27 +166,18 @@ public class Event extends Task {
         }
 
         List<LocalDateTime> occurrences = new ArrayList<>();
-        LocalDateTime next = startDateTime;
-
-        for (int i = 0; i < count; i++) {
-            switch (recurrence) {
-            case RECURRENCE_DAILY:
-                next = next.plusDays(1);
-                break;
-            case RECURRENCE_WEEKLY:
-                next = next.plusWeeks(1);
-                break;
-            case RECURRENCE_MONTHLY:
-                next = next.plusMonths(1);
-                break;
-            default:
-                return occurrences;
-            }
-            occurrences.add(next);
+        for (int i = 1; i <= count; i++) {
+            occurrences.add(recurrence.nth(startDateTime, i));
         }
         return occurrences;
     }
 
+    @Override
+    public String getDuplicateKey() {
+        return super.getDuplicateKey() + "|" + getDateKey(startDateTime, startDate, from)
+                + "|" + getDateKey(endDateTime, endDate, to) + "|" + recurrence;
+    }
+
     /**
      * Returns the file format representation of this event task.
      * Format: "E | STATUS | DESCRIPTION | START_TIME | END_TIME"
@@ -110,18 +187,19 @@ public class Event extends Task {
     @Override
     public String toFileFormat() {
         return "E " + super.toFileFormat() + " | " + from + " | " + to
-                + " | " + (recurrence != null ? recurrence : "none");
+                + " | " + (recurrence != null ? recurrence.getName()
+                        : unknownRecurrence != null ? unknownRecurrence : RECURRENCE_NONE);
     }
 
     /**
-     * Returns the string representation of this event task for display.
+     * Renders this event task for display.
      * Formats parsed dates as "MMM d yyyy" or "MMM d yyyy, h:mma" for datetimes.
      * Falls back to the original strings if parsing failed.
      *
      * @return A formatted string showing the task type, status, description, start time, and end time.
      */
     @Override
-    public String toString() {
+    protected String render() {
         String fromString;
         String toString;
 
@@ -141,14 +219,14 @@ public class Event extends Task {
             toString = to;
         }
 
-        String result = "[E]" + super.toString() + " (from: " + fromString + " to: " + toString + ")";
+        String result = "[E]" + super.render() + " (from: " + fromString + " to: " + toString + ")";
 
         if (recurrence != null) {
-            result += " (repeats " + recurrence + ")";
+            result += " (repeats " + recurrence.getName() + ")";
             List<LocalDateTime> nextOccurrences = getNextOccurrences(3);
             if (!nextOccurrences.isEmpty()) {
                 String dates = nextOccurrences.stream()
-                        .map(dt -> dt.format(java.time.format.DateTimeFormatter.ofPattern("MMM d")))
+                        .map(dt -> dt.format(OCCURRENCE_FORMAT))
                         .collect(Collectors.joining(", "));
                 result += "\n   Next: " + dates;
             }
@@ -0,0 +1,104 @@
+package echo.task;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * How often a recurring event repeats.
+ */
+public enum Recurrence {
+    DAILY("daily", ChronoUnit.DAYS),
+    WEEKLY("weekly", ChronoUnit.WEEKS),
+    MONTHLY("monthly", ChronoUnit.MONTHS);
+
+    private final String name;
+    private final ChronoUnit unit;
+
+    Recurrence(String name, ChronoUnit unit) {
+        this.name = name;
+        this.unit = unit;
+    }
+
+    /**
+     * Returns the name of this recurrence, as typed by users and stored in files.
+     *
+     * @return "daily", "weekly" or "monthly".
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the occurrence that follows the given one.
+     *
+     * @param occurrence The start of an occurrence.
+     * @return The start of the next occurrence.
+     */
+    public LocalDateTime next(LocalDateTime occurrence) {
+        switch (this) {
+        case DAILY:
+            return occurrence.plusDays(1);
+        case WEEKLY:
+            return occurrence.plusWeeks(1);
+        default:
+            return occurrence.plusMonths(1);
+        }
+    }
+
+    /**
+     * Returns the start of the occurrence a number of periods after the first one. Months are
+     * counted from the first occurrence, so an event on the 31st is back on the 31st in the
+     * months that have one.
+     *
+     * @param first The start of the first occurrence.
+     * @param n     The number of periods after the first occurrence.
+     * @return The start of that occurrence.
+     */
+    public LocalDateTime nth(LocalDateTime first, long n) {
+        return first.plus(n, unit);
+    }
+
+    /**
+     * Returns the number of whole periods from the first occurrence to the given time, so that
+     * {@code nth(first, periodsUntil(first, time))} is the last occurrence starting at or before it.
+     *
+     * @param first The start of the first occurrence.
+     * @param time  The time to count up to.
+     * @return The number of periods, or a negative number if the time is before the first occurrence.
+     */
+    public long periodsUntil(LocalDateTime first, LocalDateTime time) {
+        return unit.between(first, time);
+    }
+
+    /**
+     * Returns the start of the first occurrence after the given time, found by counting the
+     * periods from the first occurrence rather than stepping through every one in between.
+     *
+     * @param first The start of the first occurrence.
+     * @param time  The time the occurrence must come after.
+     * @return The start of that occurrence.
+     */
+    public LocalDateTime firstAfter(LocalDateTime first, LocalDateTime time) {
+        long n = Math.max(0, periodsUntil(first, time));
+        LocalDateTime occurrence = nth(first, n);
+        while (!occurrence.isAfter(time)) {
+            occurrence = nth(first, ++n);
+        }
+        return occurrence;
+    }
+
+    /**
+     * Returns the recurrence with the given name.
+     *
+     * @param name The name of the recurrence, e.g. "weekly".
+     * @return The matching recurrence, or null if there is none.
+     */
+    public static Recurrence fromName(String name) {
+        for (Recurrence recurrence : values()) {
+            if (recurrence.name.equals(name)) {
+                return recurrence;
+            }
+        }
+        return null;
+    }
+}
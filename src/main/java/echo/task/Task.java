@@ -1,25 +1,71 @@
 package echo.task;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import echo.util.StringPool;
+import echo.util.TextFolder;
+
 /**
  * Represents a task with a description and completion status.
  * This is an abstract base class for different types of tasks (Todo, Deadline, Event).
  */
-public class Task {
+public abstract class Task implements Cloneable {
     protected String description;
     protected boolean isDone;
+    private final String searchKey;
+    private String rendered;
 
     /**
      * Constructs a Task with the specified description.
-     * The task is initially marked as not done.
+     * The task is initially marked as not done. The search key of the description is computed
+     * once here, and shares the description's string when folding does not change it.
      *
      * @param description The description of the task.
      */
     protected Task(String description) {
+        this(description, null);
+    }
+
+    /**
+     * Constructs a Task like {@link #Task(String)}, sharing its description and search key with
+     * equal ones from other tasks through the pool.
+     *
+     * @param description The description of the task.
+     * @param pool        The pool to share strings through, or null to keep them unshared.
+     */
+    protected Task(String description, StringPool pool) {
         assert description != null : "Task description cannot be null";
-        this.description = description;
+        this.description = share(pool, description);
+        String folded = TextFolder.fold(description);
+        this.searchKey = folded.equals(description) ? this.description : share(pool, folded);
         this.isDone = false;
     }
 
+    /**
+     * Returns the pooled instance of a string, or the string itself if there is no pool.
+     */
+    protected static String share(StringPool pool, String value) {
+        return pool == null ? value : pool.intern(value);
+    }
+
+    /**
+     * Returns the single-letter type icon of the task, as shown in lists and stored in files.
+     *
+     * @return "T", "D" or "E".
+     */
+    public abstract String getTypeIcon();
+
+    /**
+     * Returns the date and time this task is scheduled for, if it has one that could be parsed.
+     * Dates without a time are treated as the start of that day.
+     *
+     * @return The scheduled date and time, or null if the task has none.
+     */
+    public LocalDateTime getDateTime() {
+        return null;
+    }
+
     /**
      * Returns the status icon of the task.
      *
@@ -29,11 +75,21 @@ public class Task {
         return isDone ? "X" : " ";
     }
 
+    /**
+     * Returns whether this task has been marked as done.
+     *
+     * @return True if the task is done, false otherwise.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
     /**
      * Marks this task as done.
      */
     public void markDone() {
         isDone = true;
+        rendered = null;
     }
 
     /**
@@ -41,6 +97,21 @@ public class Task {
      */
     public void markNotDone() {
         isDone = false;
+        rendered = null;
+    }
+
+    /**
+     * Returns a copy of this task with the same details and completion status.
+     * Marking the copy does not affect this task.
+     *
+     * @return A copy of this task.
+     */
+    public Task copy() {
+        try {
+            return (Task) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError("Task is Cloneable", e);
+        }
     }
 
     /**
@@ -52,6 +123,71 @@ public class Task {
         return description;
     }
 
+    /**
+     * Returns a key that is the same for tasks of the same type with the same description and
+     * dates. Case, repeated spaces and a closing ".", "!" or "?" in the text are ignored, as is
+     * whether the task is done, so near-exact copies share a key.
+     *
+     * @return The duplicate key of this task.
+     */
+    public String getDuplicateKey() {
+        return getTypeIcon() + "|" + normalize(description);
+    }
+
+    /**
+     * Returns the duplicate key part for a date that may have been parsed with or without a time.
+     * Parsed dates are compared by value; unparsed text is normalized like descriptions.
+     */
+    protected static String getDateKey(LocalDateTime dateTime, LocalDate date, String text) {
+        if (dateTime != null) {
+            return dateTime.toString();
+        }
+        return date != null ? date.toString() : normalize(text);
+    }
+
+    /**
+     * Lowercases text, collapses runs of whitespace and drops leading and trailing spaces and
+     * sentence terminators. Other punctuation is kept, so "learn C" and "learn C++" differ.
+     */
+    private static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean isPendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                isPendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (isPendingSpace) {
+                normalized.append(' ');
+                isPendingSpace = false;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        int end = normalized.length();
+        while (end > 0 && isSentenceTerminator(normalized.charAt(end - 1))) {
+            end--;
+        }
+        while (end > 0 && normalized.charAt(end - 1) == ' ') {
+            end--;
+        }
+        normalized.setLength(end);
+        return normalized.toString();
+    }
+
+    private static boolean isSentenceTerminator(char c) {
+        return c == '.' || c == '!' || c == '?';
+    }
+
+    /**
+     * Returns the description folded for case- and accent-insensitive search.
+     *
+     * @return The description as folded by {@link TextFolder#fold(String)}.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     /**
      * Returns the file format representation of this task for saving to file.
      * Format: "| STATUS | DESCRIPTION" where STATUS is 1 for done, 0 for not done.
@@ -64,11 +200,27 @@ public class Task {
 
     /**
      * Returns the string representation of this task for display to user.
+     * The line is rendered once and reused until the task is marked or unmarked, which is the
+     * only change a task goes through after it is created.
      *
      * @return A formatted string showing the task status and description.
      */
     @Override
     public String toString() {
+        String line = rendered;
+        if (line == null) {
+            line = render();
+            rendered = line;
+        }
+        return line;
+    }
+
+    /**
+     * Renders the line returned by {@link #toString()}. Subclasses add their type and dates.
+     *
+     * @return A formatted string showing the task status and description.
+     */
+    protected String render() {
         return "[" + getStatusIcon() + "] " + description;
     }
 }
@@ -1,5 +1,7 @@
 package echo.task;
 
+import echo.util.StringPool;
+
 /**
  * Represents a todo task without any date/time attached to it.
  * A todo is a simple task with just a description.
@@ -15,6 +17,21 @@ public class Todo extends Task {
         super(description);
     }
 
+    /**
+     * Constructs a Todo task whose description is shared with equal ones through the pool.
+     *
+     * @param description The description of the todo task.
+     * @param pool        The pool to share strings through.
+     */
+    public Todo(String description, StringPool pool) {
+        super(description, pool);
+    }
+
+    @Override
+    public String getTypeIcon() {
+        return "T";
+    }
+
     /**
      * Returns the file format representation of this todo task.
      * Format: "T | STATUS | DESCRIPTION"
@@ -27,13 +44,13 @@ public class Todo extends Task {
     }
 
     /**
-     * Returns the string representation of this todo task for display.
+     * Renders this todo task for display.
      * Format: "[T][STATUS] DESCRIPTION"
      *
      * @return A formatted string showing the task type, status, and description.
      */
     @Override
-    public String toString() {
-        return "[T]" + super.toString();
+    protected String render() {
+        return "[T]" + super.render();
     }
 }
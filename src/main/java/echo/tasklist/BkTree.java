@@ -0,0 +1,120 @@
+package echo.tasklist;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree over words, using Levenshtein distance as the metric.
+ * Finding all words within distance d of a query only visits subtrees whose distance to their
+ * parent lies within d of the query's distance to that parent (triangle inequality), which
+ * prunes most of the tree for small d.
+ */
+class BkTree {
+    private Node root;
+    private int size;
+
+    /**
+     * Adds a word to the tree. Adding a word that is already present has no effect.
+     *
+     * @param word The word to add.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(node.word, word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the tree.
+     *
+     * @return The number of words.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Finds all words within the given distance of the query.
+     *
+     * @param query       The word to search for.
+     * @param maxDistance The maximum edit distance.
+     * @return The matching words mapped to their distance from the query.
+     */
+    Map<String, Integer> search(String query, int maxDistance) {
+        Map<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(node.word, query);
+            if (distance <= maxDistance) {
+                matches.put(node.word, distance);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    pending.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the Levenshtein distance between two words, i.e. the minimum number of
+     * single-character insertions, deletions and substitutions turning one into the other.
+     *
+     * @param a The first word.
+     * @param b The second word.
+     * @return The edit distance.
+     */
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * A word in the tree, with children keyed by their distance to this word.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
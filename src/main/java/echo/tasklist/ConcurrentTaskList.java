@@ -0,0 +1,75 @@
+package echo.tasklist;
+
+import java.util.ArrayList;
+
+import echo.task.Task;
+
+/**
+ * A thread-safe TaskList.
+ * Writers are serialized on this list's monitor. Every change publishes a new immutable version
+ * of the tasks through a volatile reference, so readers ({@code get}, {@code size},
+ * {@code findTasks}, {@code snapshot}, ...) never take a lock and never wait for a writer.
+ */
+public class ConcurrentTaskList extends TaskList {
+
+    /**
+     * Constructs an empty ConcurrentTaskList.
+     */
+    public ConcurrentTaskList() {
+        super();
+    }
+
+    /**
+     * Constructs a ConcurrentTaskList with an existing ArrayList of tasks.
+     *
+     * @param tasks The ArrayList of tasks to initialize with.
+     */
+    public ConcurrentTaskList(ArrayList<Task> tasks) {
+        super(tasks);
+    }
+
+    @Override
+    public synchronized void add(Task task) {
+        super.add(task);
+    }
+
+    @Override
+    public synchronized Task remove(int index) {
+        return super.remove(index);
+    }
+
+    @Override
+    public synchronized int removeAll(int[] indices) {
+        return super.removeAll(indices);
+    }
+
+    @Override
+    public synchronized Task markDone(int index) {
+        return super.markDone(index);
+    }
+
+    @Override
+    public synchronized Task markNotDone(int index) {
+        return super.markNotDone(index);
+    }
+
+    @Override
+    public synchronized void clear() {
+        super.clear();
+    }
+
+    @Override
+    public synchronized void commit() {
+        super.commit();
+    }
+
+    @Override
+    public synchronized int undo(int steps) {
+        return super.undo(steps);
+    }
+
+    @Override
+    public synchronized int redo(int steps) {
+        return super.redo(steps);
+    }
+}
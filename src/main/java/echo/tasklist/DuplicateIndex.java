@@ -0,0 +1,57 @@
+package echo.tasklist;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import echo.task.Task;
+
+/**
+ * Counts the tasks in a list by {@link Task#getDuplicateKey()}, so whether a task duplicates
+ * one already in the list can be answered with a single hash lookup.
+ */
+class DuplicateIndex implements TaskListListener {
+    private final Map<String, Integer> counts = new HashMap<>();
+
+    /**
+     * Constructs a DuplicateIndex over the given tasks.
+     *
+     * @param tasks The tasks to index.
+     */
+    DuplicateIndex(Iterable<Task> tasks) {
+        tasksReset(tasks);
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        counts.merge(task.getDuplicateKey(), 1, Integer::sum);
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        counts.computeIfPresent(task.getDuplicateKey(), (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Does nothing, as a marked copy has the same key as the task it replaces.
+     */
+    @Override
+    public void taskReplaced(Task oldTask, Task newTask) {
+        assert oldTask.getDuplicateKey().equals(newTask.getDuplicateKey()) : "Replacement must keep the key";
+    }
+
+    @Override
+    public synchronized void tasksReset(Iterable<Task> tasks) {
+        counts.clear();
+        tasks.forEach(this::taskAdded);
+    }
+
+    /**
+     * Returns whether the list holds a task with the same duplicate key as the given task.
+     *
+     * @param task The task to look for.
+     * @return True if a duplicate is in the list.
+     */
+    synchronized boolean contains(Task task) {
+        return counts.containsKey(task.getDuplicateKey());
+    }
+}
@@ -0,0 +1,111 @@
+package echo.tasklist;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import echo.task.Task;
+import echo.util.TextFolder;
+
+/**
+ * An index of the words in task descriptions that supports typo-tolerant lookup.
+ * Distinct words are kept in a {@link BkTree}; each word maps to the tasks containing it.
+ * Words of removed tasks stay in the tree until the next reset, but are skipped once no task
+ * contains them.
+ */
+class FuzzyIndex implements TaskListListener {
+    private BkTree words = new BkTree();
+    private final Map<String, Set<Task>> postings = new HashMap<>();
+
+    /**
+     * Constructs a FuzzyIndex over the given tasks.
+     *
+     * @param tasks The tasks to index.
+     */
+    FuzzyIndex(Iterable<Task> tasks) {
+        tasksReset(tasks);
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        for (String word : tokenize(task.getSearchKey())) {
+            Set<Task> containing = postings.computeIfAbsent(word, w -> new HashSet<>());
+            if (containing.isEmpty()) {
+                words.add(word);
+            }
+            containing.add(task);
+        }
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        for (String word : tokenize(task.getSearchKey())) {
+            Set<Task> containing = postings.get(word);
+            if (containing != null) {
+                containing.remove(task);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void tasksReset(Iterable<Task> tasks) {
+        words = new BkTree();
+        postings.clear();
+        tasks.forEach(this::taskAdded);
+    }
+
+    /**
+     * Finds tasks that contain, for every word of the keyword, a word within the given distance.
+     *
+     * @param keyword     The word(s) to search for.
+     * @param maxDistance The maximum edit distance per word.
+     * @return The matching tasks, ordered by total edit distance and then by description.
+     */
+    synchronized List<Task> search(String keyword, int maxDistance) {
+        Map<Task, Integer> totalDistances = null;
+        for (String queryWord : tokenize(TextFolder.fold(keyword))) {
+            Map<Task, Integer> bestDistances = new HashMap<>();
+            for (Map.Entry<String, Integer> match : words.search(queryWord, maxDistance).entrySet()) {
+                for (Task task : postings.getOrDefault(match.getKey(), Set.of())) {
+                    bestDistances.merge(task, match.getValue(), Math::min);
+                }
+            }
+            if (totalDistances == null) {
+                totalDistances = bestDistances;
+            } else {
+                totalDistances.keySet().retainAll(bestDistances.keySet());
+                totalDistances.replaceAll((task, distance) -> distance + bestDistances.get(task));
+            }
+        }
+        if (totalDistances == null) {
+            return new ArrayList<>();
+        }
+
+        Map<Task, Integer> distances = totalDistances;
+        List<Task> results = new ArrayList<>(distances.keySet());
+        results.sort(Comparator.<Task>comparingInt(distances::get).thenComparing(Task::getDescription));
+        return results;
+    }
+
+    /**
+     * Splits text into lowercase words of letters and digits.
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
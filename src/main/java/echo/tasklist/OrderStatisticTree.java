@@ -0,0 +1,206 @@
+package echo.tasklist;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * A sorted set whose elements can be reached by rank.
+ * Backed by a treap (a binary search tree kept balanced by random node priorities) whose nodes
+ * record their subtree size, so adding, removing and finding the element at a given rank take
+ * O(log n) expected time, and reading k elements from any rank takes O(log n + k) time.
+ *
+ * @param <E> The type of elements in the set. Elements must be distinct under the comparator.
+ */
+class OrderStatisticTree<E> {
+    private final Comparator<? super E> order;
+    private final Random priorities = new Random();
+    private Node<E> root;
+
+    /**
+     * Constructs an empty tree.
+     *
+     * @param order The order of the elements. No two elements in the tree may compare equal.
+     */
+    OrderStatisticTree(Comparator<? super E> order) {
+        this.order = order;
+    }
+
+    /**
+     * Returns the number of elements in the tree.
+     *
+     * @return The size of the tree.
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Adds an element that is not in the tree yet.
+     *
+     * @param element The element to add.
+     */
+    void add(E element) {
+        Node<E> node = new Node<>(element, priorities.nextInt());
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes an element from the tree.
+     *
+     * @param element The element to remove.
+     * @return Whether the element was in the tree.
+     */
+    boolean remove(E element) {
+        int sizeBefore = size(root);
+        root = remove(root, element);
+        return size(root) < sizeBefore;
+    }
+
+    /**
+     * Removes every element.
+     */
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns an iterator over the elements in order, starting at the given rank.
+     * The tree must not be changed while the iterator is in use.
+     *
+     * @param from The rank (0-based) of the first element to return.
+     * @return An iterator over the elements from that rank on.
+     */
+    Iterator<E> iterator(int from) {
+        Deque<Node<E>> path = new ArrayDeque<>();
+        Node<E> node = root;
+        int rank = from;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (rank <= leftSize) {
+                path.push(node);
+                if (rank == leftSize) {
+                    break;
+                }
+                node = node.left;
+            } else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> next = path.pop();
+                for (Node<E> child = next.right; child != null; child = child.left) {
+                    path.push(child);
+                }
+                return next.element;
+            }
+        };
+    }
+
+    private Node<E> insert(Node<E> subtree, Node<E> node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (node.priority > subtree.priority) {
+            split(subtree, node.element, node);
+            return node.update();
+        }
+        if (order.compare(node.element, subtree.element) < 0) {
+            subtree.left = insert(subtree.left, node);
+        } else {
+            subtree.right = insert(subtree.right, node);
+        }
+        return subtree.update();
+    }
+
+    /**
+     * Splits a subtree into the elements before and after the key, and makes them the left and
+     * right children of the given node.
+     */
+    private void split(Node<E> subtree, E key, Node<E> into) {
+        if (subtree == null) {
+            into.left = null;
+            into.right = null;
+            return;
+        }
+        if (order.compare(subtree.element, key) < 0) {
+            split(subtree.right, key, into);
+            subtree.right = into.left;
+            into.left = subtree.update();
+        } else {
+            split(subtree.left, key, into);
+            subtree.left = into.right;
+            into.right = subtree.update();
+        }
+    }
+
+    private Node<E> remove(Node<E> subtree, E element) {
+        if (subtree == null) {
+            return null;
+        }
+        int comparison = order.compare(element, subtree.element);
+        if (comparison == 0) {
+            return merge(subtree.left, subtree.right);
+        }
+        if (comparison < 0) {
+            subtree.left = remove(subtree.left, element);
+        } else {
+            subtree.right = remove(subtree.right, element);
+        }
+        return subtree.update();
+    }
+
+    /**
+     * Joins two subtrees where every element of the first comes before every element of the second.
+     */
+    private Node<E> merge(Node<E> first, Node<E> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority > second.priority) {
+            first.right = merge(first.right, second);
+            return first.update();
+        }
+        second.left = merge(first, second.left);
+        return second.update();
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node<E> {
+        private final E element;
+        private final int priority;
+        private Node<E> left;
+        private Node<E> right;
+        private int size = 1;
+
+        private Node(E element, int priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+
+        private Node<E> update() {
+            size = 1 + size(left) + size(right);
+            return this;
+        }
+    }
+}
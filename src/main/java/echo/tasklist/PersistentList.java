@@ -0,0 +1,321 @@
+package echo.tasklist;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable, positionally indexed list with structural sharing.
+ * Backed by a height-balanced (AVL) tree whose nodes record their subtree size, so lookups,
+ * replacements, insertions and removals at any index take O(log n) time. Every update returns a
+ * new list that shares all untouched nodes with the old one, which makes keeping earlier
+ * versions around (e.g. for undo) cost O(log n) memory per change instead of a full copy.
+ *
+ * @param <T> The type of elements in the list.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @param <T> The type of elements in the list.
+     * @return The empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Builds a balanced list holding the given elements, in order, in O(n) time.
+     *
+     * @param elements The elements to copy.
+     * @param <T>      The type of elements in the list.
+     * @return A list containing the given elements.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    /**
+     * Returns the number of elements in this list.
+     *
+     * @return The size of the list.
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index The index of the element (0-based).
+     * @return The element at the index.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at the specified index replaced.
+     *
+     * @param index The index of the element to replace (0-based).
+     * @param value The new element.
+     * @return The updated list.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public PersistentList<T> set(int index, T value) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(set(root, index, value));
+    }
+
+    /**
+     * Returns a list with the given element appended at the end.
+     *
+     * @param value The element to append.
+     * @return The updated list.
+     */
+    public PersistentList<T> append(T value) {
+        return new PersistentList<>(insert(root, size(), value));
+    }
+
+    /**
+     * Returns a list with the element at the specified index removed.
+     *
+     * @param index The index of the element to remove (0-based).
+     * @return The updated list.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public PersistentList<T> remove(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns a list with the elements at the specified indices removed.
+     * Small selections are removed one by one in O(k log n); large selections rebuild the
+     * survivors in a single O(n) pass.
+     *
+     * @param indices The indices to remove (0-based), sorted in ascending order without duplicates.
+     * @return The updated list.
+     * @throws IndexOutOfBoundsException If any index is out of range.
+     */
+    public PersistentList<T> removeAll(int[] indices) {
+        if (indices.length == 0) {
+            return this;
+        }
+        Objects.checkIndex(indices[0], size());
+        Objects.checkIndex(indices[indices.length - 1], size());
+        if ((long) indices.length * height(root) < size()) {
+            Node<T> node = root;
+            for (int i = indices.length - 1; i >= 0; i--) {
+                node = remove(node, indices[i]);
+            }
+            return new PersistentList<>(node);
+        }
+
+        Object[] survivors = new Object[size() - indices.length];
+        int next = 0;
+        int write = 0;
+        int read = 0;
+        for (T value : this) {
+            if (next < indices.length && indices[next] == read) {
+                next++;
+            } else {
+                survivors[write++] = value;
+            }
+            read++;
+        }
+        @SuppressWarnings("unchecked")
+        List<T> survivorList = (List<T>) List.of(survivors);
+        return of(survivorList);
+    }
+
+    /**
+     * Returns an iterator over the elements of this list in order.
+     * Iterating the whole list takes O(n) time.
+     *
+     * @return An iterator over the elements.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root, 0);
+    }
+
+    /**
+     * Returns an iterator over the elements of this list starting at the specified index.
+     * Positioning the iterator takes O(log n) time.
+     *
+     * @param fromIndex The index of the first element to return (0-based).
+     * @return An iterator over the elements from the index onwards.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public Iterator<T> iterator(int fromIndex) {
+        Objects.checkFromToIndex(fromIndex, size(), size());
+        return new InOrderIterator<>(root, fromIndex);
+    }
+
+    private static <T> Node<T> build(List<? extends T> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements.get(mid), build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T value) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, value), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, value));
+        }
+        return new Node<>(value, node.left, node.right);
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T value) {
+        if (node == null) {
+            return new Node<>(value, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, value), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, value));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Creates a node from the given parts, rotating once or twice if the subtrees' heights
+     * differ by more than one.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value,
+                    new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value,
+                    new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Walks a tree in order using an explicit stack of the nodes still to be visited.
+     */
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final ArrayDeque<Node<T>> path = new ArrayDeque<>();
+
+        private InOrderIterator(Node<T> root, int fromIndex) {
+            Node<T> node = root;
+            while (node != null) {
+                int leftSize = size(node.left);
+                if (fromIndex <= leftSize) {
+                    path.push(node);
+                    node = node.left;
+                } else {
+                    fromIndex -= leftSize + 1;
+                    node = node.right;
+                }
+            }
+        }
+
+        private void pushLeft(Node<T> node) {
+            for (Node<T> n = node; n != null; n = n.left) {
+                path.push(n);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            pushLeft(node.right);
+            return node.value;
+        }
+    }
+
+    /**
+     * An immutable tree node holding one element and the size and height of its subtree.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
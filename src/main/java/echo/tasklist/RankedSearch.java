@@ -0,0 +1,101 @@
+package echo.tasklist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+import echo.task.Task;
+
+/**
+ * Finds the best k tasks containing a keyword.
+ * Each match is scored by how often the keyword occurs, how early it first occurs, how recently
+ * the task was added and whether the task is still undone. Only the best k matches are kept,
+ * in a bounded min-heap, so the full match set is never sorted or materialized.
+ */
+class RankedSearch {
+    private static final double WEIGHT_FREQUENCY = 2.0;
+    private static final double WEIGHT_POSITION = 1.0;
+    private static final double WEIGHT_RECENCY = 0.5;
+    private static final double WEIGHT_UNDONE = 1.0;
+
+    private static final Comparator<Match> WORST_FIRST = Comparator.<Match>comparingDouble(match -> match.score)
+            .thenComparingInt(match -> match.index);
+
+    /**
+     * Returns the k highest-scoring tasks whose search keys contain the keyword.
+     *
+     * @param tasks   The tasks to search.
+     * @param keyword The folded keyword to search for.
+     * @param k       The maximum number of results.
+     * @return The best matches, highest score first.
+     */
+    static ArrayList<Task> findTop(PersistentList<Task> tasks, String keyword, int k) {
+        assert k > 0 : "k must be positive";
+        PriorityQueue<Match> best = new PriorityQueue<>(WORST_FIRST);
+        int lastIndex = Math.max(tasks.size() - 1, 1);
+        Iterator<Task> iterator = tasks.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            Task task = iterator.next();
+            double score = score(task, keyword, (double) i / lastIndex);
+            if (score < 0) {
+                continue;
+            }
+            Match worst = best.peek();
+            if (best.size() < k) {
+                best.add(new Match(i, task, score));
+            } else if (score > worst.score || (score == worst.score && i > worst.index)) {
+                best.poll();
+                best.add(new Match(i, task, score));
+            }
+        }
+
+        ArrayList<Task> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            results.add(best.poll().task);
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /**
+     * Scores a task against the keyword.
+     *
+     * @param task    The task to score.
+     * @param keyword The folded keyword to search for.
+     * @param recency The task's position in the list, from 0 (oldest) to 1 (newest).
+     * @return The score, or -1 if the task does not contain the keyword.
+     */
+    static double score(Task task, String keyword, double recency) {
+        String description = task.getSearchKey();
+        int first = description.indexOf(keyword);
+        if (first < 0) {
+            return -1;
+        }
+        int frequency = 0;
+        for (int at = first; at >= 0; at = description.indexOf(keyword, at + Math.max(keyword.length(), 1))) {
+            frequency++;
+        }
+        double position = 1.0 - (double) first / description.length();
+        return WEIGHT_FREQUENCY * frequency
+                + WEIGHT_POSITION * position
+                + WEIGHT_RECENCY * recency
+                + (task.isDone() ? 0 : WEIGHT_UNDONE);
+    }
+
+    /**
+     * A matching task with its position in the list and its score.
+     */
+    private static class Match {
+        private final int index;
+        private final Task task;
+        private final double score;
+
+        private Match(int index, Task task, double score) {
+            this.index = index;
+            this.task = task;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package echo.tasklist;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+import echo.task.Task;
+
+/**
+ * The orders in which a {@link SortedView} can present tasks.
+ */
+public enum SortKey {
+    /** Earliest deadline or event start first; tasks without a date go last. */
+    DUE("due", Comparator.comparing(Task::getDateTime,
+            Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))),
+    /** Undone tasks first. */
+    STATUS("status", Comparator.comparing(Task::isDone)),
+    /** Grouped by task type: deadlines, events, then todos. */
+    TYPE("type", Comparator.comparing(Task::getTypeIcon));
+
+    private final String name;
+    private final Comparator<Task> order;
+
+    SortKey(String name, Comparator<Task> order) {
+        this.name = name;
+        this.order = order;
+    }
+
+    /**
+     * Returns the name users type to select this order, e.g. "due".
+     *
+     * @return The name of this order.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the comparator for this order. Tasks that compare equal keep their list order.
+     *
+     * @return The comparator for this order.
+     */
+    public Comparator<Task> getOrder() {
+        return order;
+    }
+
+    /**
+     * Returns the sort key with the given name.
+     *
+     * @param name The name of the order, e.g. "due".
+     * @return The matching sort key, or null if there is none.
+     */
+    public static SortKey fromName(String name) {
+        for (SortKey key : values()) {
+            if (key.name.equals(name)) {
+                return key;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,203 @@
+package echo.tasklist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import echo.task.Task;
+
+/**
+ * A view of a {@link TaskList} kept in a given {@link SortKey} order.
+ * The tasks are held in an order-statistic tree that is updated on every add, remove and mark,
+ * so reading k tasks in order from any position takes O(log n + k) time instead of sorting the
+ * list each time.
+ *
+ * Every task in the view carries a sequence number that increases along the list. A Fenwick
+ * tree over the sequence numbers gives each task's position in the list in O(log n) time, so
+ * the view can show the same task numbers as the unsorted list.
+ */
+public class SortedView implements TaskListListener {
+    private final OrderStatisticTree<Entry> entries;
+    private final Map<Task, Entry> entryOf = new IdentityHashMap<>();
+    private int[] present = new int[16];
+    private int nextSeq;
+
+    /**
+     * Constructs a SortedView over the given tasks.
+     *
+     * @param tasks The tasks to view, in list order.
+     * @param key   The order to keep the tasks in.
+     */
+    SortedView(Iterable<Task> tasks, SortKey key) {
+        Comparator<Entry> order = Comparator.<Entry, Task>comparing(entry -> entry.task, key.getOrder())
+                .thenComparingInt(entry -> entry.seq);
+        entries = new OrderStatisticTree<>(order);
+        tasksReset(tasks);
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        if (nextSeq >= present.length - 1) {
+            renumber();
+        }
+        insert(task, nextSeq++);
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        Entry entry = entryOf.remove(task);
+        assert entry != null : "Removed task is not in the view";
+        entries.remove(entry);
+        update(entry.seq, -1);
+    }
+
+    /**
+     * Moves the replacement into the replaced task's place in the list order.
+     */
+    @Override
+    public synchronized void taskReplaced(Task oldTask, Task newTask) {
+        Entry entry = entryOf.remove(oldTask);
+        assert entry != null : "Replaced task is not in the view";
+        entries.remove(entry);
+        update(entry.seq, -1);
+        insert(newTask, entry.seq);
+    }
+
+    @Override
+    public synchronized void tasksReset(Iterable<Task> tasks) {
+        entries.clear();
+        entryOf.clear();
+        present = new int[16];
+        nextSeq = 0;
+        tasks.forEach(this::taskAdded);
+    }
+
+    /**
+     * Returns the number of tasks in the view.
+     *
+     * @return The number of tasks.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns up to {@code count} tasks in sorted order, starting at the given position, each
+     * with its index in the task list.
+     *
+     * @param from  The sorted position of the first task to return (0-based).
+     * @param count The maximum number of tasks to return.
+     * @return The tasks and their list indices.
+     */
+    public synchronized List<Entry> page(int from, int count) {
+        List<Entry> page = new ArrayList<>(Math.max(0, Math.min(count, entries.size() - from)));
+        Iterator<Entry> iterator = entries.iterator(from);
+        while (iterator.hasNext() && page.size() < count) {
+            Entry entry = iterator.next();
+            page.add(entry.withIndex(countBefore(entry.seq)));
+        }
+        return page;
+    }
+
+    /**
+     * Returns the list indices of the first tasks in sorted order that satisfy the filter.
+     * Tasks are visited in order and the walk stops once enough have matched.
+     *
+     * @param filter The condition a task must satisfy.
+     * @param limit  The maximum number of indices to return.
+     * @return The indices (0-based) of the matching tasks, in sorted order.
+     */
+    public synchronized int[] select(Predicate<Task> filter, int limit) {
+        int[] indices = new int[Math.min(limit, entries.size())];
+        int count = 0;
+        Iterator<Entry> iterator = entries.iterator(0);
+        while (iterator.hasNext() && count < indices.length) {
+            Entry entry = iterator.next();
+            if (filter.test(entry.task)) {
+                indices[count++] = countBefore(entry.seq);
+            }
+        }
+        return Arrays.copyOf(indices, count);
+    }
+
+    private void insert(Task task, int seq) {
+        Entry entry = new Entry(task, seq);
+        Entry previous = entryOf.put(task, entry);
+        assert previous == null : "Task is already in the view";
+        entries.add(entry);
+        update(seq, 1);
+    }
+
+    /**
+     * Reassigns sequence numbers 0..n-1 in list order and resizes the Fenwick tree so that
+     * removed tasks no longer take up space in it. The relative order of the numbers is kept,
+     * so the sorted tree stays valid.
+     */
+    private void renumber() {
+        List<Entry> inListOrder = new ArrayList<>(entryOf.values());
+        inListOrder.sort(Comparator.comparingInt(entry -> entry.seq));
+        present = new int[Math.max(16, 2 * inListOrder.size() + 2)];
+        nextSeq = 0;
+        for (Entry entry : inListOrder) {
+            entry.seq = nextSeq++;
+            update(entry.seq, 1);
+        }
+    }
+
+    private void update(int seq, int delta) {
+        for (int i = seq + 1; i < present.length; i += i & -i) {
+            present[i] += delta;
+        }
+    }
+
+    private int countBefore(int seq) {
+        int count = 0;
+        for (int i = seq; i > 0; i -= i & -i) {
+            count += present[i];
+        }
+        return count;
+    }
+
+    /**
+     * A task in the view, with its index in the task list once returned from {@link #page}.
+     */
+    public static class Entry {
+        private final Task task;
+        private int seq;
+        private int index;
+
+        private Entry(Task task, int seq) {
+            this.task = task;
+            this.seq = seq;
+        }
+
+        private Entry withIndex(int index) {
+            Entry copy = new Entry(task, seq);
+            copy.index = index;
+            return copy;
+        }
+
+        /**
+         * Returns the task.
+         *
+         * @return The task.
+         */
+        public Task getTask() {
+            return task;
+        }
+
+        /**
+         * Returns the task's index in the task list (0-based).
+         *
+         * @return The index of the task.
+         */
+        public int getIndex() {
+            return index;
+        }
+    }
+}
@@ -1,22 +1,49 @@
 package echo.tasklist;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import echo.task.Task;
+import echo.util.TextFolder;
 
 /**
  * Manages a list of tasks.
  * Provides operations to add, remove, and retrieve tasks from the list.
+ *
+ * The tasks are held in a {@link PersistentList}, so every change produces a new version of
+ * the list in O(log n) time while older versions stay intact. Committed versions are kept in a
+ * bounded history that backs {@link #undo(int)} and {@link #redo(int)}.
+ *
+ * This class is not thread-safe; use {@link ConcurrentTaskList} when tasks are read and
+ * written from several threads.
  */
 public class TaskList {
-    private final ArrayList<Task> tasks;
+    private static final int MAX_HISTORY = 1000;
+
+    protected volatile PersistentList<Task> tasks;
+    private final Deque<PersistentList<Task>> undoHistory = new ArrayDeque<>();
+    private final Deque<PersistentList<Task>> redoHistory = new ArrayDeque<>();
+    private final List<TaskListListener> listeners = new ArrayList<>();
+    private final Map<SortKey, SortedView> sortedViews = new EnumMap<>(SortKey.class);
+    private PersistentList<Task> committed;
+    private FuzzyIndex fuzzyIndex;
+    private DuplicateIndex duplicateIndex;
+    private TaskStats stats;
 
     /**
      * Constructs an empty TaskList.
      */
     public TaskList() {
-        this.tasks = new ArrayList<>();
+        this(PersistentList.empty());
     }
 
     /**
@@ -25,8 +52,30 @@ public class TaskList {
      * @param tasks The ArrayList of tasks to initialize with.
      */
     public TaskList(ArrayList<Task> tasks) {
+        this(PersistentList.of(tasks));
         assert tasks != null : "Tasks list cannot be null";
+    }
+
+    /**
+     * Constructs a TaskList holding the given version of the tasks.
+     *
+     * @param tasks The version of the tasks to start from.
+     */
+    TaskList(PersistentList<Task> tasks) {
         this.tasks = tasks;
+        this.committed = tasks;
+    }
+
+    /**
+     * Returns a view of this list whose contents do not change while it is being read.
+     * Callers that read several tasks in a row (e.g. to render the whole list) should go through
+     * a snapshot so that concurrent writers cannot shift indices underneath them.
+     * Taking a snapshot is O(1), as the current version of the tasks is immutable.
+     *
+     * @return A TaskList holding the current version of the tasks.
+     */
+    public TaskList snapshot() {
+        return new TaskList(tasks);
     }
 
     /**
@@ -36,7 +85,8 @@ public class TaskList {
      */
     public void add(Task task) {
         assert task != null : "Cannot add null task";
-        tasks.add(task);
+        tasks = tasks.append(task);
+        listeners.forEach(listener -> listener.taskAdded(task));
     }
 
     /**
@@ -47,7 +97,75 @@ public class TaskList {
      * @throws IndexOutOfBoundsException If the index is out of range.
      */
     public Task remove(int index) {
-        return tasks.remove(index);
+        Task removed = tasks.get(index);
+        tasks = tasks.remove(index);
+        listeners.forEach(listener -> listener.taskRemoved(removed));
+        return removed;
+    }
+
+    /**
+     * Removes the tasks at the specified indices in one operation.
+     * Surviving tasks keep their relative order.
+     *
+     * @param indices The indices of the tasks to remove (0-based), sorted in ascending order without duplicates.
+     * @return The number of tasks removed.
+     * @throws IndexOutOfBoundsException If any index is out of range.
+     */
+    public int removeAll(int[] indices) {
+        assert IntStream.range(1, indices.length).allMatch(i -> indices[i - 1] < indices[i])
+                : "Indices must be sorted and distinct";
+        PersistentList<Task> before = tasks;
+        tasks = tasks.removeAll(indices);
+        if (!listeners.isEmpty()) {
+            for (int index : indices) {
+                Task removed = before.get(index);
+                listeners.forEach(listener -> listener.taskRemoved(removed));
+            }
+        }
+        return indices.length;
+    }
+
+    /**
+     * Marks the task at the specified index as done.
+     * Tasks are shared between versions of the list, so the task is replaced by a marked copy.
+     *
+     * @param index The index of the task to mark (0-based).
+     * @return The marked task.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public Task markDone(int index) {
+        Task task = tasks.get(index);
+        if (task.isDone()) {
+            return task;
+        }
+        Task marked = task.copy();
+        marked.markDone();
+        replace(index, task, marked);
+        return marked;
+    }
+
+    /**
+     * Marks the task at the specified index as not done.
+     * Tasks are shared between versions of the list, so the task is replaced by an unmarked copy.
+     *
+     * @param index The index of the task to unmark (0-based).
+     * @return The unmarked task.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public Task markNotDone(int index) {
+        Task task = tasks.get(index);
+        if (!task.isDone()) {
+            return task;
+        }
+        Task unmarked = task.copy();
+        unmarked.markNotDone();
+        replace(index, task, unmarked);
+        return unmarked;
+    }
+
+    private void replace(int index, Task oldTask, Task newTask) {
+        tasks = tasks.set(index, newTask);
+        listeners.forEach(listener -> listener.taskReplaced(oldTask, newTask));
     }
 
     /**
@@ -61,6 +179,19 @@ public class TaskList {
         return tasks.get(index);
     }
 
+    /**
+     * Returns an iterator over the tasks starting at the specified index.
+     * Walking k tasks this way takes O(log n + k) time, compared to O(k log n) for repeated
+     * {@link #get(int)} calls.
+     *
+     * @param fromIndex The index of the first task to return (0-based).
+     * @return An iterator over the tasks from the index onwards.
+     * @throws IndexOutOfBoundsException If the index is out of range.
+     */
+    public Iterator<Task> iterator(int fromIndex) {
+        return tasks.iterator(fromIndex);
+    }
+
     /**
      * Returns the number of tasks in the list.
      *
@@ -74,19 +205,244 @@ public class TaskList {
      * Removes all tasks from the list.
      */
     public void clear() {
-        tasks.clear();
+        tasks = PersistentList.empty();
+        listeners.forEach(listener -> listener.tasksReset(tasks));
+    }
+
+    /**
+     * Registers a listener that is notified of every later change to this list.
+     * Listeners are not carried over to snapshots.
+     *
+     * @param listener The listener to register.
+     */
+    public void addListener(TaskListListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops notifying a listener of changes to this list.
+     *
+     * @param listener The listener to remove.
+     */
+    public synchronized void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Brings a listener up to date with the current tasks and then registers it, so that it
+     * sees every change made after it was brought up to date.
+     *
+     * @param listener The listener to attach.
+     */
+    public synchronized void attachListener(TaskListListener listener) {
+        listener.tasksReset(tasks);
+        addListener(listener);
+    }
+
+    /**
+     * Records the current version of the tasks as one step in the undo history.
+     * Does nothing if the tasks have not changed since the last commit, so callers can commit
+     * after every command, including failed ones.
+     */
+    public void commit() {
+        if (tasks == committed) {
+            return;
+        }
+        undoHistory.push(committed);
+        if (undoHistory.size() > MAX_HISTORY) {
+            undoHistory.removeLast();
+        }
+        redoHistory.clear();
+        committed = tasks;
     }
 
     /**
-     * Finds all tasks whose descriptions contain the specified keyword.
+     * Reverts the tasks to the version before the last {@code steps} commits.
+     * Each step swaps in an earlier version in O(1) time.
+     *
+     * @param steps The number of commits to undo.
+     * @return The number of commits actually undone, which is smaller than {@code steps}
+     *         if the history runs out.
+     */
+    public int undo(int steps) {
+        assert tasks == committed : "Changes must be committed before undoing";
+        int undone = 0;
+        while (undone < steps && !undoHistory.isEmpty()) {
+            redoHistory.push(committed);
+            committed = undoHistory.pop();
+            undone++;
+        }
+        tasks = committed;
+        if (undone > 0) {
+            listeners.forEach(listener -> listener.tasksReset(tasks));
+        }
+        return undone;
+    }
+
+    /**
+     * Re-applies the last {@code steps} undone commits.
+     *
+     * @param steps The number of commits to redo.
+     * @return The number of commits actually redone.
+     */
+    public int redo(int steps) {
+        assert tasks == committed : "Changes must be committed before redoing";
+        int redone = 0;
+        while (redone < steps && !redoHistory.isEmpty()) {
+            undoHistory.push(committed);
+            committed = redoHistory.pop();
+            redone++;
+        }
+        tasks = committed;
+        if (redone > 0) {
+            listeners.forEach(listener -> listener.tasksReset(tasks));
+        }
+        return redone;
+    }
+
+    /**
+     * Returns whether the list already holds a duplicate of the given task, i.e. a task with the
+     * same {@link Task#getDuplicateKey() duplicate key}.
+     * Uses a hash index that is built on first use and then kept up to date as the list changes.
+     *
+     * @param task The task to check.
+     * @return True if the list holds a duplicate of the task.
+     */
+    public boolean containsDuplicateOf(Task task) {
+        return getDuplicateIndex().contains(task);
+    }
+
+    private synchronized DuplicateIndex getDuplicateIndex() {
+        if (duplicateIndex == null) {
+            duplicateIndex = new DuplicateIndex(tasks);
+            addListener(duplicateIndex);
+        }
+        return duplicateIndex;
+    }
+
+    /**
+     * Returns the indices of tasks that duplicate an earlier task in the list.
+     * The list is scanned once, remembering the duplicate keys seen so far.
+     *
+     * @return The indices (0-based) of the later copies, in ascending order.
+     */
+    public int[] getDuplicateIndices() {
+        Set<String> seen = new HashSet<>();
+        return getIndices(task -> !seen.add(task.getDuplicateKey()));
+    }
+
+    /**
+     * Returns the indices of all tasks that satisfy the given condition.
+     *
+     * @param condition The condition a task must satisfy to be selected.
+     * @return The matching indices (0-based), in ascending order.
+     */
+    public int[] getIndices(Predicate<Task> condition) {
+        IntStream.Builder indices = IntStream.builder();
+        int index = 0;
+        for (Task task : tasks) {
+            if (condition.test(task)) {
+                indices.add(index);
+            }
+            index++;
+        }
+        return indices.build().toArray();
+    }
+
+    /**
+     * Finds all tasks whose descriptions contain the specified keyword, ignoring case and accents.
+     * Only the keyword is folded per search; each task's folded description is precomputed.
      *
      * @param keyword The keyword to search for in task descriptions.
      * @return A new TaskList containing all matching tasks.
      */
     public TaskList findTasks(String keyword) {
-        ArrayList<Task> matchingTasks = (ArrayList<Task>) tasks.stream()
-                .filter(task -> task.getDescription().contains(keyword))
-                .collect(Collectors.toList());
+        String foldedKeyword = TextFolder.fold(keyword);
+        ArrayList<Task> matchingTasks = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task.getSearchKey().contains(foldedKeyword)) {
+                matchingTasks.add(task);
+            }
+        }
         return new TaskList(matchingTasks);
     }
+
+    /**
+     * Finds the k most relevant tasks whose descriptions contain the specified keyword, ignoring
+     * case and accents.
+     * Relevance favours more occurrences of the keyword, earlier occurrences, more recently
+     * added tasks and undone tasks. Only the best k matches are kept while scanning.
+     *
+     * @param keyword The keyword to search for in task descriptions.
+     * @param k       The maximum number of tasks to return.
+     * @return A new TaskList containing the best matches, most relevant first.
+     */
+    public TaskList findTopTasks(String keyword, int k) {
+        return new TaskList(RankedSearch.findTop(tasks, TextFolder.fold(keyword), k));
+    }
+
+    /**
+     * Finds tasks with words within the given edit distance of every word in the keyword, so
+     * "meetnig" still finds "team meeting". Matching ignores case. Results are ranked by total
+     * edit distance, closest first.
+     * The search uses an index over description words that is built on first use and then kept
+     * up to date as the list changes, so later searches do not scan the whole list.
+     *
+     * @param keyword     The word(s) to search for.
+     * @param maxDistance The maximum number of single-character edits allowed per word.
+     * @return A new TaskList containing the matching tasks, best matches first.
+     */
+    public TaskList findTasksFuzzy(String keyword, int maxDistance) {
+        return new TaskList(new ArrayList<>(getFuzzyIndex().search(keyword, maxDistance)));
+    }
+
+    private synchronized FuzzyIndex getFuzzyIndex() {
+        if (fuzzyIndex == null) {
+            fuzzyIndex = new FuzzyIndex(tasks);
+            addListener(fuzzyIndex);
+        }
+        return fuzzyIndex;
+    }
+
+    /**
+     * Returns a view of the tasks in the given order.
+     * The view is built on first use and then kept up to date as the list changes, so reading
+     * it never sorts the whole list.
+     *
+     * @param key The order of the view.
+     * @return The sorted view.
+     */
+    public synchronized SortedView getSortedView(SortKey key) {
+        SortedView view = sortedViews.get(key);
+        if (view == null) {
+            view = new SortedView(tasks, key);
+            sortedViews.put(key, view);
+            addListener(view);
+        }
+        return view;
+    }
+
+    /**
+     * Returns the view of the tasks in the given order if it has already been built.
+     *
+     * @param key The order of the view.
+     * @return The sorted view, or null if there is none yet.
+     */
+    public synchronized SortedView findSortedView(SortKey key) {
+        return sortedViews.get(key);
+    }
+
+    /**
+     * Returns the statistics of this list.
+     * They are computed on first use and then kept up to date as the list changes.
+     *
+     * @return The statistics of this list.
+     */
+    public synchronized TaskStats getStats() {
+        if (stats == null) {
+            stats = new TaskStats(tasks);
+            addListener(stats);
+        }
+        return stats;
+    }
 }
@@ -0,0 +1,44 @@
+package echo.tasklist;
+
+import echo.task.Task;
+
+/**
+ * Receives notifications about changes to a {@link TaskList}.
+ * Used by secondary indexes that must stay in step with the list. Marking a task is reported
+ * as a replacement of the old task by its marked copy.
+ */
+public interface TaskListListener {
+
+    /**
+     * Called after a task has been added to the list.
+     *
+     * @param task The added task.
+     */
+    void taskAdded(Task task);
+
+    /**
+     * Called after a task has been removed from the list.
+     *
+     * @param task The removed task.
+     */
+    void taskRemoved(Task task);
+
+    /**
+     * Called after a task has been replaced by another task at the same position, e.g. by its
+     * marked copy. By default this is treated as a removal followed by an addition.
+     *
+     * @param oldTask The task that was replaced.
+     * @param newTask The task now in its place.
+     */
+    default void taskReplaced(Task oldTask, Task newTask) {
+        taskRemoved(oldTask);
+        taskAdded(newTask);
+    }
+
+    /**
+     * Called after the whole list has been replaced, e.g. by clear, undo or redo.
+     *
+     * @param tasks The tasks now in the list.
+     */
+    void tasksReset(Iterable<Task> tasks);
+}
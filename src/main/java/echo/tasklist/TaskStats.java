@@ -0,0 +1,242 @@
+package echo.tasklist;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+
+import echo.task.Task;
+
+/**
+ * Counts of the tasks in a list, kept current as the list changes.
+ * Totals by type and the done count are plain counters. Undone tasks with a date are counted
+ * per day in a histogram, and also in overdue, today, this-week and this-month counters for the
+ * day the counters were last brought up to date. Every change adjusts the counters in O(1)
+ * time. When the day changes, the counters are rolled forward by moving each window's
+ * boundaries past the days in between, so only the dates that enter or leave a window are
+ * visited. The resulting {@link Summary} is cached until the list changes or the day rolls over.
+ */
+public class TaskStats implements TaskListListener {
+    private final Map<String, Integer> countsByType = new TreeMap<>();
+    private final TreeMap<LocalDate, Integer> undoneByDate = new TreeMap<>();
+    private int total;
+    private int done;
+    private LocalDate countedDay; // the day the date counters are for, or null before the first summary
+    private int overdue;
+    private int dueToday;
+    private int dueThisWeek;
+    private int dueThisMonth;
+    private Summary cached;
+
+    /**
+     * Constructs TaskStats over the given tasks.
+     *
+     * @param tasks The tasks to count.
+     */
+    TaskStats(Iterable<Task> tasks) {
+        tasksReset(tasks);
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        update(task, 1);
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        update(task, -1);
+    }
+
+    @Override
+    public synchronized void tasksReset(Iterable<Task> tasks) {
+        countsByType.clear();
+        undoneByDate.clear();
+        total = 0;
+        done = 0;
+        countedDay = null;
+        cached = null;
+        tasks.forEach(this::taskAdded);
+    }
+
+    private void update(Task task, int delta) {
+        cached = null;
+        total += delta;
+        countsByType.merge(task.getTypeIcon(), delta, Integer::sum);
+        if (task.isDone()) {
+            done += delta;
+            return;
+        }
+        LocalDateTime due = task.getDateTime();
+        if (due == null) {
+            return;
+        }
+        LocalDate date = due.toLocalDate();
+        undoneByDate.merge(date, delta, (count, change) -> {
+            int updated = count + change;
+            return updated == 0 ? null : updated;
+        });
+        if (countedDay == null) {
+            return;
+        }
+        if (date.isBefore(countedDay)) {
+            overdue += delta;
+            return;
+        }
+        if (date.equals(countedDay)) {
+            dueToday += delta;
+        }
+        if (!date.isAfter(endOfWeek(countedDay))) {
+            dueThisWeek += delta;
+        }
+        if (!date.isAfter(endOfMonth(countedDay))) {
+            dueThisMonth += delta;
+        }
+    }
+
+    /**
+     * Returns the statistics as of the given day.
+     *
+     * @param today The current date.
+     * @return The statistics.
+     */
+    public synchronized Summary getSummary(LocalDate today) {
+        if (cached == null || !cached.today.equals(today)) {
+            countUpTo(today);
+            cached = new Summary(today, total, done,
+                    countsByType.getOrDefault("T", 0), countsByType.getOrDefault("D", 0),
+                    countsByType.getOrDefault("E", 0), overdue, dueToday, dueThisWeek, dueThisMonth);
+        }
+        return cached;
+    }
+
+    /**
+     * Brings the date counters to the given day. Moving forward only visits the dates between the
+     * old and new window boundaries; the first count, or moving back, sums the histogram.
+     */
+    private void countUpTo(LocalDate today) {
+        if (today.equals(countedDay)) {
+            return;
+        }
+        if (countedDay == null || today.isBefore(countedDay)) {
+            overdue = sum(undoneByDate.headMap(today, false));
+            dueToday = sum(undoneByDate.subMap(today, true, today, true));
+            dueThisWeek = sum(undoneByDate.subMap(today, true, endOfWeek(today), true));
+            dueThisMonth = sum(undoneByDate.subMap(today, true, endOfMonth(today), true));
+            countedDay = today;
+            return;
+        }
+        overdue += sum(undoneByDate.subMap(countedDay, true, today, false));
+        dueToday = moveWindow(dueToday, countedDay, countedDay, today, today);
+        dueThisWeek = moveWindow(dueThisWeek, countedDay, endOfWeek(countedDay), today, endOfWeek(today));
+        dueThisMonth = moveWindow(dueThisMonth, countedDay, endOfMonth(countedDay), today, endOfMonth(today));
+        countedDay = today;
+    }
+
+    /**
+     * Returns the count of a window of days after both of its ends move forward: the dates that
+     * fall out of the start are subtracted and the dates that come in at the end are added.
+     */
+    private int moveWindow(int count, LocalDate oldStart, LocalDate oldEnd, LocalDate newStart, LocalDate newEnd) {
+        LocalDate lastDropped = newStart.minusDays(1).isBefore(oldEnd) ? newStart.minusDays(1) : oldEnd;
+        if (!lastDropped.isBefore(oldStart)) {
+            count -= sum(undoneByDate.subMap(oldStart, true, lastDropped, true));
+        }
+        LocalDate firstAdded = oldEnd.plusDays(1).isAfter(newStart) ? oldEnd.plusDays(1) : newStart;
+        if (!firstAdded.isAfter(newEnd)) {
+            count += sum(undoneByDate.subMap(firstAdded, true, newEnd, true));
+        }
+        return count;
+    }
+
+    private static LocalDate endOfWeek(LocalDate day) {
+        return day.with(DayOfWeek.SUNDAY);
+    }
+
+    private static LocalDate endOfMonth(LocalDate day) {
+        return day.withDayOfMonth(day.lengthOfMonth());
+    }
+
+    private static int sum(Map<LocalDate, Integer> counts) {
+        int sum = 0;
+        for (int count : counts.values()) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    /**
+     * The statistics of a task list on a given day. Date-based counts only include undone tasks.
+     */
+    public static class Summary {
+        private final LocalDate today;
+        private final int total;
+        private final int done;
+        private final int todos;
+        private final int deadlines;
+        private final int events;
+        private final int overdue;
+        private final int dueToday;
+        private final int dueThisWeek;
+        private final int dueThisMonth;
+
+        private Summary(LocalDate today, int total, int done, int todos, int deadlines, int events,
+                int overdue, int dueToday, int dueThisWeek, int dueThisMonth) {
+            this.today = today;
+            this.total = total;
+            this.done = done;
+            this.todos = todos;
+            this.deadlines = deadlines;
+            this.events = events;
+            this.overdue = overdue;
+            this.dueToday = dueToday;
+            this.dueThisWeek = dueThisWeek;
+            this.dueThisMonth = dueThisMonth;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getDone() {
+            return done;
+        }
+
+        public int getTodos() {
+            return todos;
+        }
+
+        public int getDeadlines() {
+            return deadlines;
+        }
+
+        public int getEvents() {
+            return events;
+        }
+
+        /**
+         * Returns the number of undone tasks dated before today.
+         */
+        public int getOverdue() {
+            return overdue;
+        }
+
+        public int getDueToday() {
+            return dueToday;
+        }
+
+        /**
+         * Returns the number of undone tasks dated from today to the coming Sunday.
+         */
+        public int getDueThisWeek() {
+            return dueThisWeek;
+        }
+
+        /**
+         * Returns the number of undone tasks dated from today to the end of the month.
+         */
+        public int getDueThisMonth() {
+            return dueThisMonth;
+        }
+    }
+}
@@ -8,6 +8,11 @@ import java.time.format.DateTimeParseException;
 /**
  * Utility class for parsing and formatting date and time strings.
  * Provides methods to parse dates in multiple formats and format them for display.
+ *
+ * Parsing looks at the length of the string and the positions of its separators to pick the
+ * format, then reads the digits directly. Text that is not a date, such as "Sunday", is rejected
+ * without throwing or allocating. Only years written with a sign (e.g. "+12345") are still
+ * handed to {@link DateTimeFormatter}.
  */
 public class DateTimeParser {
     private static final DateTimeFormatter DATETIME_INPUT_FORMAT =
@@ -16,33 +21,67 @@ public class DateTimeParser {
             DateTimeFormatter.ofPattern("MMM d yyyy, h:mma");
     private static final DateTimeFormatter DATE_DISPLAY_FORMAT =
             DateTimeFormatter.ofPattern("MMM d yyyy");
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
 
     /**
-     * Attempts to parse a string as LocalDateTime in yyyy-MM-dd HHmm format.
+     * Attempts to parse a string as a LocalDateTime.
+     * Accepts yyyy-MM-dd HHmm, yyyy-MM-ddTHH:mm and dd/MM/yyyy HHmm. In the yyyy-MM-dd HHmm format,
+     * days past the end of the month are moved back to its last day and 2400 means midnight at
+     * the end of the day.
      *
      * @param dateTimeString The string to parse.
      * @return LocalDateTime if successful, null otherwise.
      */
     public static LocalDateTime parseDateTime(String dateTimeString) {
-        try {
-            return LocalDateTime.parse(dateTimeString, DATETIME_INPUT_FORMAT);
-        } catch (DateTimeParseException e) {
+        int length = dateTimeString.length();
+        if (length == 0) {
             return null;
         }
+        char first = dateTimeString.charAt(0);
+        if (first == '+' || first == '-') {
+            return parseSignedDateTime(dateTimeString);
+        }
+        if (length == 15 && isSeparator(dateTimeString, 4, '-', 7, '-', 10, ' ')) {
+            return toDateTime(read(dateTimeString, 0, 4), read(dateTimeString, 5, 2), read(dateTimeString, 8, 2),
+                    read(dateTimeString, 11, 2), read(dateTimeString, 13, 2), true);
+        }
+        if (length == 16 && isSeparator(dateTimeString, 4, '-', 7, '-', 10, 'T') && dateTimeString.charAt(13) == ':') {
+            return toDateTime(read(dateTimeString, 0, 4), read(dateTimeString, 5, 2), read(dateTimeString, 8, 2),
+                    read(dateTimeString, 11, 2), read(dateTimeString, 14, 2), false);
+        }
+        if (length == 15 && isSeparator(dateTimeString, 2, '/', 5, '/', 10, ' ')) {
+            return toDateTime(read(dateTimeString, 6, 4), read(dateTimeString, 3, 2), read(dateTimeString, 0, 2),
+                    read(dateTimeString, 11, 2), read(dateTimeString, 13, 2), false);
+        }
+        return null;
     }
 
     /**
-     * Attempts to parse a string as LocalDate in yyyy-MM-dd format.
+     * Attempts to parse a string as a LocalDate.
+     * Accepts yyyy-MM-dd, dd/MM/yyyy and ISO week dates such as 2025-W03-2 (Tuesday of week 3).
      *
      * @param dateString The string to parse.
      * @return LocalDate if successful, null otherwise.
      */
     public static LocalDate parseDate(String dateString) {
-        try {
-            return LocalDate.parse(dateString);
-        } catch (DateTimeParseException e) {
+        int length = dateString.length();
+        if (length == 0) {
             return null;
         }
+        char first = dateString.charAt(0);
+        if (first == '+' || first == '-') {
+            return parseSignedDate(dateString);
+        }
+        if (length == 10 && isSeparator(dateString, 4, '-', 7, '-', 4, '-')) {
+            return toDate(read(dateString, 0, 4), read(dateString, 5, 2), read(dateString, 8, 2));
+        }
+        if (length == 10 && isSeparator(dateString, 2, '/', 5, '/', 2, '/')) {
+            return toDate(read(dateString, 6, 4), read(dateString, 3, 2), read(dateString, 0, 2));
+        }
+        if (length == 10 && isSeparator(dateString, 4, '-', 5, 'W', 8, '-')) {
+            return toWeekDate(read(dateString, 0, 4), read(dateString, 6, 2), read(dateString, 9, 1));
+        }
+        return null;
     }
 
     /**
@@ -64,4 +103,99 @@ public class DateTimeParser {
     public static String formatDate(LocalDate date) {
         return date.format(DATE_DISPLAY_FORMAT);
     }
+
+    private static boolean isSeparator(String text, int i, char a, int j, char b, int k, char c) {
+        return text.charAt(i) == a && text.charAt(j) == b && text.charAt(k) == c;
+    }
+
+    /**
+     * Reads a fixed number of ASCII digits, or returns -1 if any of them is not a digit.
+     */
+    private static int read(String text, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return month == 2 && isLeapYear(year) ? 29 : DAYS_IN_MONTH[month - 1];
+    }
+
+    private static LocalDate toDate(int year, int month, int day) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Builds a LocalDateTime from its fields. Lenient days and 2400 are accepted only when
+     * {@code isSmart} is set, matching the "yyyy-MM-dd HHmm" formatter.
+     */
+    private static LocalDateTime toDateTime(int year, int month, int day, int hour, int minute, boolean isSmart) {
+        if (year < (isSmart ? 1 : 0) || month < 1 || month > 12 || day < 1 || hour < 0 || minute < 0 || minute > 59) {
+            return null;
+        }
+        int lastDay = lengthOfMonth(year, month);
+        if (day > (isSmart ? 31 : lastDay)) {
+            return null;
+        }
+        boolean isEndOfDay = isSmart && hour == 24 && minute == 0;
+        if (hour > 23 && !isEndOfDay) {
+            return null;
+        }
+        LocalDateTime dateTime = LocalDateTime.of(year, month, Math.min(day, lastDay), isEndOfDay ? 0 : hour, minute);
+        return isEndOfDay ? dateTime.plusDays(1) : dateTime;
+    }
+
+    /**
+     * Converts an ISO week date to a LocalDate. Week 1 is the week containing January 4th, and
+     * weeks start on Monday.
+     */
+    private static LocalDate toWeekDate(int weekBasedYear, int week, int dayOfWeek) {
+        if (weekBasedYear < 0 || week < 1 || dayOfWeek < 1 || dayOfWeek > 7) {
+            return null;
+        }
+        LocalDate januaryFourth = LocalDate.of(weekBasedYear, 1, 4);
+        int mondayOffset = januaryFourth.getDayOfWeek().getValue() - 1;
+        LocalDate firstMonday = januaryFourth.minusDays(mondayOffset);
+        // Years starting on a Thursday, or leap years starting on a Wednesday, have 53 weeks
+        boolean hasWeek53 = mondayOffset == 6 || mondayOffset == 5 && isLeapYear(weekBasedYear);
+        if (week > (hasWeek53 ? 53 : 52)) {
+            return null;
+        }
+        return firstMonday.plusDays((week - 1) * 7L + dayOfWeek - 1);
+    }
+
+    /**
+     * Parses a date time whose year has a sign, which only the formatter handles.
+     */
+    private static LocalDateTime parseSignedDateTime(String dateTimeString) {
+        try {
+            return LocalDateTime.parse(dateTimeString, DATETIME_INPUT_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a date whose year has a sign, which only the formatter handles.
+     */
+    private static LocalDate parseSignedDate(String dateString) {
+        try {
+            return LocalDate.parse(dateString);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
@@ -52,10 +52,22 @@ public class InputValidator {
      * @throws EchoException If the task number is out of bounds.
      */
     public static void requireValidTaskIndex(int taskNum, int maxIndex) throws EchoException {
+        checkValidTaskIndex(taskNum, maxIndex).orElseThrow();
+    }
+
+    /**
+     * Checks that a task number is within valid bounds, without throwing.
+     *
+     * @param taskNum The task number (0-indexed) to check.
+     * @param maxIndex The maximum valid index (exclusive).
+     * @return The task number, or an error if it is out of bounds.
+     */
+    public static ParseResult<Integer> checkValidTaskIndex(int taskNum, int maxIndex) {
         if (taskNum < 0 || taskNum >= maxIndex) {
-            throw new EchoException("Task number doesn't exist. Please provide a number between 1 and "
+            return ParseResult.failure("Task number doesn't exist. Please provide a number between 1 and "
                     + maxIndex + ".");
         }
+        return ParseResult.success(taskNum);
     }
 
     /**
@@ -67,15 +79,48 @@ public class InputValidator {
      * @throws EchoException If the string is not a valid positive integer.
      */
     public static int requirePositiveInteger(String numberString, String fieldName) throws EchoException {
-        try {
-            int number = Integer.parseInt(numberString.trim());
-            if (number <= 0) {
-                throw new EchoException(fieldName + " must be a positive number.");
+        return parsePositiveInteger(numberString, fieldName).orElseThrow();
+    }
+
+    /**
+     * Parses a positive integer without throwing. Accepts what {@link Integer#parseInt(String)}
+     * accepts after trimming, but reads the digits directly instead of catching a
+     * NumberFormatException for invalid input.
+     *
+     * @param numberString The string to parse.
+     * @param fieldName The name of the field for error messages.
+     * @return The parsed integer, or an error if the string is not a valid positive integer.
+     */
+    public static ParseResult<Integer> parsePositiveInteger(String numberString, String fieldName) {
+        String trimmed = numberString.trim();
+        int i = 0;
+        boolean isNegative = false;
+        if (!trimmed.isEmpty() && (trimmed.charAt(0) == '-' || trimmed.charAt(0) == '+')) {
+            isNegative = trimmed.charAt(0) == '-';
+            i++;
+        }
+        if (i == trimmed.length()) {
+            return ParseResult.failure(fieldName + " must be a valid number.");
+        }
+        // Accumulate negatively, like Integer.parseInt, so Integer.MIN_VALUE still fits
+        long number = 0;
+        for (; i < trimmed.length(); i++) {
+            int digit = Character.digit(trimmed.charAt(i), 10);
+            if (digit < 0) {
+                return ParseResult.failure(fieldName + " must be a valid number.");
+            }
+            number = number * 10 - digit;
+            if (number < Integer.MIN_VALUE) {
+                return ParseResult.failure(fieldName + " must be a valid number.");
             }
-            return number;
-        } catch (NumberFormatException e) {
-            throw new EchoException(fieldName + " must be a valid number.");
         }
+        if (!isNegative && number == Integer.MIN_VALUE) {
+            return ParseResult.failure(fieldName + " must be a valid number.");
+        }
+        if (isNegative || number == 0) {
+            return ParseResult.failure(fieldName + " must be a positive number.");
+        }
+        return ParseResult.success((int) -number);
     }
 
     /**
@@ -88,13 +133,27 @@ public class InputValidator {
      */
     public static void requireMinParts(String[] parts, int expectedMinParts, String errorMessage)
             throws EchoException {
-        if (parts.length < expectedMinParts) {
+        if (!hasMinParts(parts, expectedMinParts)) {
             throw new EchoException(errorMessage);
         }
+    }
+
+    /**
+     * Checks that a split result has the expected number of non-empty parts, without throwing.
+     *
+     * @param parts The array of parts from a split operation.
+     * @param expectedMinParts The minimum expected number of parts.
+     * @return True if the first {@code expectedMinParts} parts exist and are not blank.
+     */
+    public static boolean hasMinParts(String[] parts, int expectedMinParts) {
+        if (parts.length < expectedMinParts) {
+            return false;
+        }
         for (int i = 0; i < expectedMinParts; i++) {
             if (parts[i].trim().isEmpty()) {
-                throw new EchoException(errorMessage);
+                return false;
             }
         }
+        return true;
     }
 }
@@ -0,0 +1,83 @@
+package echo.util;
+
+import echo.exception.EchoException;
+
+/**
+ * The outcome of parsing or validating user input: either a value or a user-friendly error message.
+ * Returned instead of throwing an {@link EchoException}, so rejecting invalid input costs no more
+ * than accepting valid input.
+ *
+ * @param <T> The type of the parsed value.
+ */
+public final class ParseResult<T> {
+    private final T value;
+    private final String errorMessage;
+
+    private ParseResult(T value, String errorMessage) {
+        this.value = value;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Returns a successful result.
+     *
+     * @param value The parsed value.
+     * @param <T>   The type of the parsed value.
+     * @return The result holding the value.
+     */
+    public static <T> ParseResult<T> success(T value) {
+        return new ParseResult<>(value, null);
+    }
+
+    /**
+     * Returns a failed result.
+     *
+     * @param errorMessage The message explaining to the user what is wrong with the input.
+     * @param <T>          The type the value would have had.
+     * @return The result holding the error message.
+     */
+    public static <T> ParseResult<T> failure(String errorMessage) {
+        assert errorMessage != null : "Error message cannot be null";
+        return new ParseResult<>(null, errorMessage);
+    }
+
+    /**
+     * Returns whether parsing succeeded.
+     *
+     * @return True if this result holds a value, false if it holds an error message.
+     */
+    public boolean isSuccess() {
+        return errorMessage == null;
+    }
+
+    /**
+     * Returns the parsed value.
+     *
+     * @return The value, or null if parsing failed.
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the error message.
+     *
+     * @return The error message, or null if parsing succeeded.
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Returns the parsed value, for callers that report errors by throwing.
+     *
+     * @return The value.
+     * @throws EchoException With the error message, if parsing failed.
+     */
+    public T orElseThrow() throws EchoException {
+        if (errorMessage != null) {
+            throw new EchoException(errorMessage);
+        }
+        return value;
+    }
+}
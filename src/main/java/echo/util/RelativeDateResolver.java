@@ -0,0 +1,244 @@
+package echo.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves relative dates such as "tomorrow", "next fri", "in 3 days" or "end of month" to
+ * calendar dates, optionally followed by a time like "1800".
+ * Phrases are matched word by word against a keyword trie built once. Results depend only on the
+ * phrase and the current day, so they are cached until the day changes.
+ *
+ * Supported phrases: today, tomorrow, WEEKDAY, this WEEKDAY, next WEEKDAY, in N day(s)|week(s)
+ * and end of [the] month. A weekday alone or with "this" is its next occurrence from today on;
+ * with "next" it is never today. Weekdays may be abbreviated, e.g. "fri" or "thurs".
+ */
+public class RelativeDateResolver {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final String UNRESOLVED = "";
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final int MAX_OFFSET_DIGITS = 4;
+    private static final Node KEYWORDS = createKeywords();
+
+    private volatile DayCache cache = new DayCache(LocalDate.MIN);
+
+    /**
+     * Words the resolver understands. Weekdays are listed in order, starting with Monday.
+     */
+    private enum Word {
+        TODAY, TOMORROW, THIS, NEXT, IN, DAY, WEEK, END, OF, THE, MONTH,
+        MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY, SATURDAY, SUNDAY;
+
+        private DayOfWeek toDayOfWeek() {
+            return ordinal() >= MONDAY.ordinal() ? DayOfWeek.of(ordinal() - MONDAY.ordinal() + 1) : null;
+        }
+    }
+
+    /**
+     * Resolves a relative date.
+     * Safe to call from several threads at once.
+     *
+     * @param text  The text the user typed, e.g. "next fri 1400".
+     * @param today The current date.
+     * @return The date as yyyy-MM-dd, or yyyy-MM-dd HHmm if a time was given, or null if the
+     *     text is not a relative date.
+     */
+    public String resolve(String text, LocalDate today) {
+        DayCache current = cache;
+        if (!current.day.equals(today)) {
+            current = new DayCache(today);
+            cache = current;
+        }
+        String resolved = current.results.get(text);
+        if (resolved == null) {
+            resolved = resolveUncached(text, today);
+            if (current.results.size() < MAX_CACHE_SIZE) {
+                current.results.put(text, resolved);
+            }
+        }
+        return resolved.equals(UNRESOLVED) ? null : resolved;
+    }
+
+    private static String resolveUncached(String text, LocalDate today) {
+        List<String> words = splitWords(text.toLowerCase(Locale.ROOT));
+        String time = null;
+        if (!words.isEmpty() && isTime(words.get(words.size() - 1))) {
+            time = words.remove(words.size() - 1);
+        }
+        LocalDate date = resolveDate(words, today);
+        if (date == null) {
+            return UNRESOLVED;
+        }
+        return time == null ? date.format(DATE_FORMAT) : date.format(DATE_FORMAT) + " " + time;
+    }
+
+    private static LocalDate resolveDate(List<String> words, LocalDate today) {
+        if (words.isEmpty()) {
+            return null;
+        }
+        Word first = lookUp(words.get(0));
+        if (words.size() == 1 && first != null) {
+            switch (first) {
+            case TODAY:
+                return today;
+            case TOMORROW:
+                return today.plusDays(1);
+            default:
+                return first.toDayOfWeek() == null ? null : nextWeekday(today, first.toDayOfWeek(), 0);
+            }
+        }
+        if (words.size() == 2 && (first == Word.THIS || first == Word.NEXT)) {
+            Word second = lookUp(words.get(1));
+            DayOfWeek dayOfWeek = second == null ? null : second.toDayOfWeek();
+            return dayOfWeek == null ? null : nextWeekday(today, dayOfWeek, first == Word.NEXT ? 1 : 0);
+        }
+        if (words.size() == 3 && first == Word.IN) {
+            int count = readCount(words.get(1));
+            Word unit = lookUp(words.get(2));
+            if (count < 0 || unit != Word.DAY && unit != Word.WEEK) {
+                return null;
+            }
+            return today.plusDays(unit == Word.WEEK ? count * 7L : count);
+        }
+        if (first == Word.END && isEndOfMonth(words)) {
+            return today.withDayOfMonth(today.lengthOfMonth());
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first day with the given weekday that is at least {@code minDays} after today.
+     */
+    private static LocalDate nextWeekday(LocalDate today, DayOfWeek dayOfWeek, int minDays) {
+        int days = (dayOfWeek.getValue() - today.getDayOfWeek().getValue() - minDays + 14) % 7 + minDays;
+        return today.plusDays(days);
+    }
+
+    private static boolean isEndOfMonth(List<String> words) {
+        if (words.size() == 3) {
+            return lookUp(words.get(1)) == Word.OF && lookUp(words.get(2)) == Word.MONTH;
+        }
+        return words.size() == 4 && lookUp(words.get(1)) == Word.OF && lookUp(words.get(2)) == Word.THE
+                && lookUp(words.get(3)) == Word.MONTH;
+    }
+
+    private static boolean isTime(String word) {
+        if (word.length() != 4) {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            if (word.charAt(i) < '0' || word.charAt(i) > '9') {
+                return false;
+            }
+        }
+        int hour = (word.charAt(0) - '0') * 10 + word.charAt(1) - '0';
+        int minute = (word.charAt(2) - '0') * 10 + word.charAt(3) - '0';
+        return hour < 24 && minute < 60;
+    }
+
+    private static int readCount(String word) {
+        if (word.isEmpty() || word.length() > MAX_OFFSET_DIGITS) {
+            return -1;
+        }
+        int count = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            count = count * 10 + c - '0';
+        }
+        return count;
+    }
+
+    private static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isSpace = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (isSpace && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            } else if (!isSpace && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    private static Word lookUp(String word) {
+        Node node = KEYWORDS;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.getChild(word.charAt(i));
+        }
+        return node == null ? null : node.word;
+    }
+
+    private static Node createKeywords() {
+        Node root = new Node();
+        root.add("today", Word.TODAY);
+        root.add("tomorrow", Word.TOMORROW);
+        root.add("tmr", Word.TOMORROW);
+        root.add("this", Word.THIS);
+        root.add("next", Word.NEXT);
+        root.add("in", Word.IN);
+        root.add("day", Word.DAY);
+        root.add("days", Word.DAY);
+        root.add("week", Word.WEEK);
+        root.add("weeks", Word.WEEK);
+        root.add("end", Word.END);
+        root.add("of", Word.OF);
+        root.add("the", Word.THE);
+        root.add("month", Word.MONTH);
+        String[][] weekdayNames = {{"monday", "mon"}, {"tuesday", "tue", "tues"}, {"wednesday", "wed"},
+            {"thursday", "thu", "thur", "thurs"}, {"friday", "fri"}, {"saturday", "sat"}, {"sunday", "sun"}};
+        for (int i = 0; i < weekdayNames.length; i++) {
+            for (String name : weekdayNames[i]) {
+                root.add(name, Word.values()[Word.MONDAY.ordinal() + i]);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * A node of the keyword trie. Keywords only use the letters a to z.
+     */
+    private static class Node {
+        private final Node[] children = new Node['z' - 'a' + 1];
+        private Word word;
+
+        private Node getChild(char c) {
+            return c >= 'a' && c <= 'z' ? children[c - 'a'] : null;
+        }
+
+        private void add(String keyword, Word value) {
+            Node node = this;
+            for (int i = 0; i < keyword.length(); i++) {
+                int index = keyword.charAt(i) - 'a';
+                if (node.children[index] == null) {
+                    node.children[index] = new Node();
+                }
+                node = node.children[index];
+            }
+            node.word = value;
+        }
+    }
+
+    /**
+     * The phrases resolved on one day.
+     */
+    private static class DayCache {
+        private final LocalDate day;
+        private final Map<String, String> results = new ConcurrentHashMap<>();
+
+        private DayCache(LocalDate day) {
+            this.day = day;
+        }
+    }
+}
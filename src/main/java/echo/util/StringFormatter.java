@@ -34,6 +34,18 @@ public class StringFormatter {
                 + "\nNow you have " + formatTaskCount(totalTasks) + " in the list.";
     }
 
+    /**
+     * Formats a bulk task removal response message.
+     *
+     * @param removedCount The number of tasks removed.
+     * @param totalTasks   The total number of tasks remaining in the list.
+     * @return A formatted message confirming how many tasks were removed.
+     */
+    public static String formatTasksRemoved(int removedCount, int totalTasks) {
+        return "Noted. I've removed " + formatTaskCount(removedCount)
+                + ".\nNow you have " + formatTaskCount(totalTasks) + " in the list.";
+    }
+
     /**
      * Formats a task count string with proper pluralization.
      *
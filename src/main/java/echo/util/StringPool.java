@@ -0,0 +1,52 @@
+package echo.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares one instance between equal strings, such as the descriptions and dates repeated across
+ * a data file or typed again and again from a template, so that each repeated value is held in
+ * memory only once. A pool made for one pass, like loading a file, is dropped with it. A pool
+ * that lives longer is given a capacity and is emptied when it fills, so it never holds on to
+ * more than that many strings after their tasks are gone. Safe to use from several threads.
+ */
+public class StringPool {
+    private final Map<String, String> pool = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    /**
+     * Constructs a pool without a limit, for a single pass such as loading a file.
+     */
+    public StringPool() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a pool that is emptied whenever it holds the given number of strings.
+     *
+     * @param capacity The most strings the pool holds.
+     */
+    public StringPool(int capacity) {
+        assert capacity > 0 : "Capacity must be positive";
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the pooled instance equal to the given string, adding the string to the pool if
+     * there is none.
+     *
+     * @param value The string to intern, or null.
+     * @return A string equal to the value that is shared by all callers of this pool, or null if
+     *         the value is null.
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (pool.size() >= capacity) {
+            pool.clear();
+        }
+        String pooled = pool.putIfAbsent(value, value);
+        return pooled != null ? pooled : value;
+    }
+}
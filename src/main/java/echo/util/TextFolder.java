@@ -0,0 +1,26 @@
+package echo.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Folds text into a form for case- and accent-insensitive matching.
+ */
+public class TextFolder {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    /**
+     * Returns the folded form of the text: accents are removed, compatibility characters are
+     * replaced by their plain equivalents (NFKC) and letters are lowercased.
+     * For example, "Caf\u00e9" folds to "cafe" and full-width "\uff32\uff25\uff30" folds to "rep".
+     *
+     * @param text The text to fold.
+     * @return The folded text.
+     */
+    public static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+}
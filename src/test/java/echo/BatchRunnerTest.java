@@ -0,0 +1,93 @@
+package echo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path dataFile;
+    private Echo echo;
+
+    @BeforeEach
+    public void setUp() {
+        dataFile = tempDir.resolve("tasks.txt");
+        echo = new Echo(dataFile.toString());
+    }
+
+    @Test
+    public void run_script_writesEveryResponseAndSavesAtEnd() throws IOException {
+        StringWriter out = new StringWriter();
+        long count = new BatchRunner(echo, 0).run(
+                new BufferedReader(new StringReader("todo read book\ntodo buy milk\nmark 1\nlist\n")), out);
+
+        assertEquals(4, count);
+        assertTrue(out.toString().endsWith("1. [T][X] read book\n2. [T][ ] buy milk\n"));
+        assertEquals(2, Files.readAllLines(dataFile).size());
+    }
+
+    @Test
+    public void run_failingCommand_continuesWithNextCommand() throws IOException {
+        StringWriter out = new StringWriter();
+        new BatchRunner(echo, 1).run(new BufferedReader(new StringReader("mark 5\ntodo read book\n")), out);
+
+        assertTrue(out.toString().startsWith("Task number doesn't exist."), out.toString());
+        assertEquals(1, Files.readAllLines(dataFile).size());
+    }
+
+    @Test
+    public void run_pipelined_sameOutputAndTasksAsSequential() throws IOException {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            script.append(i % 7 == 0 ? "mark " + (i / 7 + 1) : "deadline task " + i + " /by 2025-01-0" + (i % 9 + 1))
+                    .append(i % 50 == 0 ? "\nundo\nevent x /from 1\nlist --size 3\n" : "\n");
+        }
+        StringWriter sequential = new StringWriter();
+        new BatchRunner(echo, 0).run(new BufferedReader(new StringReader(script.toString())), sequential);
+
+        Path pipelinedFile = tempDir.resolve("pipelined.txt");
+        StringWriter pipelined = new StringWriter();
+        new BatchRunner(new Echo(pipelinedFile.toString()), 100, 4)
+                .run(new BufferedReader(new StringReader(script.toString())), pipelined);
+
+        assertEquals(sequential.toString(), pipelined.toString());
+        assertEquals(Files.readAllLines(dataFile), Files.readAllLines(pipelinedFile));
+    }
+
+    @Test
+    public void run_pipelinedCheckpointFails_writerStopped() {
+        // The data file is a directory, so every save fails.
+        BatchRunner runner = new BatchRunner(new Echo(tempDir.toString()), 10, 2);
+        String script = "todo task\n".repeat(1000);
+
+        assertThrows(IOException.class, () -> runner.run(new BufferedReader(new StringReader(script)),
+                new StringWriter()));
+        assertFalse(Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().equals("echo-responses")));
+    }
+
+    @Test
+    public void setAutoSave_off_savesOnlyWhenAsked() throws IOException {
+        echo.setAutoSave(false);
+        echo.getResponse("todo read book");
+        assertFalse(Files.exists(dataFile));
+
+        echo.save();
+        assertEquals(1, Files.readAllLines(dataFile).size());
+    }
+}
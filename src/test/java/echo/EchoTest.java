@@ -0,0 +1,76 @@
+package echo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class EchoTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Echo echo;
+
+    @BeforeEach
+    public void setUp() {
+        echo = new Echo(tempDir.resolve("tasks.txt").toString());
+    }
+
+    @Test
+    public void getResponseAsync_manyCommands_appliedInCallOrder() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        echo.setAsyncExecutor(executor);
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            responses.add(echo.getResponseAsync("todo task " + i));
+            if (i % 5 == 0) {
+                responses.add(echo.getResponseAsync("mark " + i));
+            }
+        }
+        CompletableFuture<String> list = echo.getResponseAsync("list --page 100 --size 5");
+
+        for (CompletableFuture<String> response : responses) {
+            assertTrue(response.get().startsWith("Got it.") || response.get().startsWith("Nice!"), response.get());
+        }
+        assertTrue(list.get().endsWith("499. [T][ ] task 499\n500. [T][X] task 500"), list.get());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void awaitPending_afterAsyncCommands_allApplied() throws Exception {
+        for (int i = 1; i <= 50; i++) {
+            echo.getResponseAsync("todo task " + i);
+        }
+
+        echo.awaitPending();
+
+        assertEquals(50, Files.readAllLines(tempDir.resolve("tasks.txt")).size());
+    }
+
+    @Test
+    public void getResponseAsync_sameResponseAsGetResponse() throws Exception {
+        AtomicInteger tasksRun = new AtomicInteger();
+        echo.setAsyncExecutor(task -> {
+            tasksRun.incrementAndGet();
+            task.run();
+        });
+
+        assertEquals(echo.getResponse("mark 3"), echo.getResponseAsync("mark 3").get());
+        assertEquals(echo.getResponse("find book"), echo.getResponseAsync("find book").get());
+        assertTrue(tasksRun.get() > 0);
+    }
+}
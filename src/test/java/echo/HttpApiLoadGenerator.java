@@ -0,0 +1,107 @@
+package echo;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput and latency of HttpApiServer under load. A server is started on a
+ * temporary data file, and a number of clients send requests back to back for a fixed time:
+ * mostly finds and paged lists, with one add in every {@value #WRITE_EVERY} requests.
+ *
+ * Run with {@code ./gradlew loadTestServer --args="[CLIENTS] [SECONDS]"}.
+ */
+public class HttpApiLoadGenerator {
+    private static final int DEFAULT_CLIENTS = 32;
+    private static final int DEFAULT_SECONDS = 10;
+    private static final int INITIAL_TASKS = 1000;
+    private static final int WRITE_EVERY = 10;
+    private static final int MAX_SAMPLES_PER_CLIENT = 1 << 20;
+
+    /**
+     * Runs the load test and prints the request rate and latency percentiles.
+     *
+     * @param args The number of clients and the number of seconds to run for, both optional.
+     * @throws Exception If the server cannot be started or a request fails.
+     */
+    public static void main(String[] args) throws Exception {
+        int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+        Path dataFile = Files.createTempFile("echo-load", ".txt");
+        HttpApiServer server = new HttpApiServer(new Echo(dataFile.toString(), true), 0);
+        server.start();
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String baseUri = "http://localhost:" + server.getPort() + "/tasks";
+        for (int i = 0; i < INITIAL_TASKS; i++) {
+            client.send(post(baseUri + "/todo", "seed task " + i), HttpResponse.BodyHandlers.discarding());
+        }
+
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int c = 0; c < clientCount; c++) {
+            int clientId = c;
+            results.add(clients.submit(() -> runClient(client, baseUri, clientId, deadline)));
+        }
+        long[] latencies = new long[0];
+        for (Future<long[]> result : results) {
+            long[] clientLatencies = result.get();
+            int start = latencies.length;
+            latencies = Arrays.copyOf(latencies, start + clientLatencies.length);
+            System.arraycopy(clientLatencies, 0, latencies, start, clientLatencies.length);
+        }
+        clients.shutdown();
+        server.stop(0);
+        Files.deleteIfExists(dataFile);
+
+        Arrays.sort(latencies);
+        System.out.printf("%d clients, %d s: %d requests, %.0f requests/s%n", clientCount, seconds, latencies.length,
+                (double) latencies.length / seconds);
+        System.out.printf("Latency: p50 %.2f ms, p99 %.2f ms, max %.2f ms%n", percentile(latencies, 0.50),
+                percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static long[] runClient(HttpClient client, String baseUri, int clientId, long deadline) throws Exception {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline && count < MAX_SAMPLES_PER_CLIENT) {
+            HttpRequest request;
+            if (count % WRITE_EVERY == 0) {
+                request = post(baseUri + "/todo", "load task " + clientId + "-" + count);
+            } else if (count % 2 == 0) {
+                request = HttpRequest.newBuilder(URI.create(baseUri + "?q=task%20" + count % INITIAL_TASKS)).build();
+            } else {
+                request = HttpRequest.newBuilder(URI.create(baseUri + "?size=20&page=" + (count % 50 + 1))).build();
+            }
+            long start = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Request failed with status " + response.statusCode());
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - start;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static HttpRequest post(String uri, String body) {
+        return HttpRequest.newBuilder(URI.create(uri)).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private static double percentile(long[] sortedLatencies, double fraction) {
+        int index = (int) Math.min(sortedLatencies.length - 1, Math.round(fraction * (sortedLatencies.length - 1)));
+        return sortedLatencies[index] / 1e6;
+    }
+}
@@ -0,0 +1,106 @@
+package echo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HttpApiServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HttpApiServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new HttpApiServer(new Echo(tempDir.resolve("tasks.txt").toString(), true), 0);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.stop(0);
+    }
+
+    @Test
+    public void endpoints_addMarkFindDelete_sameRepliesAsCommands() throws Exception {
+        assertTrue(send("POST", "/tasks/todo", "read book").body().startsWith("Got it. I've added this task:"));
+        send("POST", "/tasks/deadline", "return book /by 2025-01-15");
+        send("POST", "/tasks/1/mark", "");
+
+        assertEquals("Here are the tasks in your list:\n1. [T][X] read book\n"
+                + "2. [D][ ] return book (by: Jan 15 2025)", send("GET", "/tasks", "").body());
+        assertEquals("Here are the tasks in your list (page 2 of 2):\n2. [D][ ] return book (by: Jan 15 2025)",
+                send("GET", "/tasks?size=1&page=2", "").body());
+        assertTrue(send("GET", "/tasks?q=return%20book", "").body().contains("1. [D][ ] return book"));
+
+        send("DELETE", "/tasks/1", "");
+        assertTrue(send("GET", "/tasks", "").body().endsWith("1. [D][ ] return book (by: Jan 15 2025)"));
+    }
+
+    @Test
+    public void endpoints_invalidRequests_errorStatus() throws Exception {
+        assertEquals(404, send("GET", "/tasks/1/archive", "").statusCode());
+        assertEquals(404, send("GET", "/tasksxyz", "").statusCode());
+        assertEquals(405, send("POST", "/tasks", "").statusCode());
+        assertEquals(400, send("POST", "/tasks/todo", " ").statusCode());
+        HttpResponse<String> missingTask = send("POST", "/tasks/9/mark", "");
+        assertEquals(400, missingTask.statusCode());
+        assertTrue(missingTask.body().startsWith("Task number doesn't exist."));
+        assertEquals(400, send("POST", "/tasks/deadline", "report").statusCode());
+        send("POST", "/tasks/todo", "read book");
+        assertEquals(400, send("GET", "/tasks?page=5", "").statusCode());
+        assertEquals(200, send("GET", "/tasks", "").statusCode());
+    }
+
+    @Test
+    public void endpoints_bulkSelections_rejected() throws Exception {
+        send("POST", "/tasks/todo", "read book");
+
+        assertEquals(400, send("DELETE", "/tasks/all", "").statusCode());
+        assertEquals(400, send("DELETE", "/tasks/1-5", "").statusCode());
+        assertEquals(400, send("POST", "/tasks/all/mark", "").statusCode());
+        assertTrue(send("GET", "/tasks", "").body().endsWith("1. [T][ ] read book"));
+    }
+
+    @Test
+    public void endpoints_concurrentAdds_noneLost() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            responses.add(client.sendAsync(request("POST", "/tasks/todo", "task " + i),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get().statusCode());
+        }
+
+        String firstPage = send("GET", "/tasks?size=1", "").body();
+        assertTrue(firstPage.startsWith("Here are the tasks in your list (page 1 of 100)"), firstPage);
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        return client.send(request(method, path, body), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String method, String path, String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
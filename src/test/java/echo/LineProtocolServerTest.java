@@ -0,0 +1,194 @@
+package echo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LineProtocolServerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void tcp_pipelinedCommands_repliesInOrder() throws Exception {
+        LineProtocolServer server = startServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        try (SocketChannel channel = SocketChannel.open(server.getAddress())) {
+            BufferedReader in = reader(channel);
+            send(channel, "todo read book\nmark 1\r\nlist\nmark 7\n");
+
+            assertTrue(readReply(in).startsWith("Got it. I've added this task:"));
+            assertTrue(readReply(in).contains("[T][X] read book"));
+            assertEquals("Here are the tasks in your list:\n1. [T][X] read book", readReply(in));
+            assertTrue(readReply(in).startsWith("Task number doesn't exist."));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void unixSocket_manyCommandsAndClients_allApplied() throws Exception {
+        Path socket = tempDir.resolve("echo.sock");
+        LineProtocolServer server = startServer(UnixDomainSocketAddress.of(socket));
+        try {
+            List<SocketChannel> clients = new ArrayList<>();
+            for (int c = 0; c < 20; c++) {
+                SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+                channel.connect(server.getAddress());
+                clients.add(channel);
+            }
+            StringBuilder commands = new StringBuilder();
+            for (int i = 0; i < 100; i++) {
+                commands.append("todo task ").append(i).append('\n');
+            }
+            for (SocketChannel channel : clients) {
+                Thread writer = new Thread(() -> send(channel, commands.toString()));
+                writer.start();
+                BufferedReader in = reader(channel);
+                for (int i = 0; i < 100; i++) {
+                    readReply(in);
+                }
+                writer.join();
+                channel.close();
+            }
+
+            try (SocketChannel channel = SocketChannel.open(server.getAddress())) {
+                send(channel, "list --size 1\n");
+                assertTrue(readReply(reader(channel)).contains("(page 1 of 2000)"));
+            }
+        } finally {
+            server.stop();
+        }
+        assertTrue(Files.notExists(socket));
+    }
+
+    @Test
+    public void tcp_lineTooLong_rejectedAndConnectionKept() throws Exception {
+        LineProtocolServer server = startServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        try (SocketChannel channel = SocketChannel.open(server.getAddress())) {
+            BufferedReader in = reader(channel);
+            Thread writer = new Thread(() -> send(channel, "todo " + "x".repeat(100_000) + "\nlist\n"));
+            writer.start();
+
+            assertTrue(readReply(in).startsWith("That command is too long."));
+            assertEquals("Your task list is empty!", readReply(in));
+            writer.join();
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void unixSocket_clientNotReading_laterCommandsHeldBack() throws Exception {
+        // Unix domain sockets have small fixed buffers, unlike loopback TCP, which grows them.
+        LineProtocolServer server = startServer(UnixDomainSocketAddress.of(tempDir.resolve("echo.sock")));
+        try (SocketChannel slow = SocketChannel.open(server.getAddress());
+                SocketChannel other = SocketChannel.open(server.getAddress())) {
+            BufferedReader slowIn = reader(slow);
+            send(slow, "todo a fairly long task description\n".repeat(200));
+            for (int i = 0; i < 200; i++) {
+                readReply(slowIn);
+            }
+            // Each list reply is several kilobytes, so the replies soon fill the socket.
+            Thread writer = new Thread(() -> send(slow, "list\ntodo more\n".repeat(2000)));
+            writer.start();
+            Thread.sleep(500);
+
+            BufferedReader otherIn = reader(other);
+            send(other, "list --size 100\n");
+            String firstPage = readReply(otherIn);
+            int pageCount = Integer.parseInt(firstPage.replaceAll("(?s).*page 1 of (\\d+).*", "$1"));
+            assertTrue(pageCount <= 3, firstPage.substring(0, 60));
+
+            for (int i = 0; i < 4000; i++) {
+                readReply(slowIn);
+            }
+            writer.join();
+            send(other, "list --size 100\n");
+            assertTrue(readReply(otherIn).startsWith("Here are the tasks in your list (page 1 of 22)"));
+        } finally {
+            server.stop();
+        }
+        assertEquals(2200, Files.readAllLines(tempDir.resolve("tasks.txt")).size());
+    }
+
+    @Test
+    public void tcp_unexpectedErrorForOneClient_othersStillServed() throws Exception {
+        Echo echo = new Echo(tempDir.resolve("tasks.txt").toString()) {
+            @Override
+            public boolean writeResponse(String input, Appendable out) throws IOException {
+                if (input.equals("fail")) {
+                    throw new IllegalStateException("Simulated failure");
+                }
+                return super.writeResponse(input, out);
+            }
+        };
+        LineProtocolServer server = new LineProtocolServer(echo,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+        try (SocketChannel failing = SocketChannel.open(server.getAddress());
+                SocketChannel other = SocketChannel.open(server.getAddress())) {
+            send(failing, "fail\n");
+            assertNull(reader(failing).readLine());
+
+            send(other, "todo read book\n");
+            assertTrue(readReply(reader(other)).startsWith("Got it. I've added this task:"));
+        } finally {
+            server.stop();
+        }
+        assertEquals(1, Files.readAllLines(tempDir.resolve("tasks.txt")).size());
+    }
+
+    private LineProtocolServer startServer(SocketAddress address) throws IOException {
+        LineProtocolServer server = new LineProtocolServer(new Echo(tempDir.resolve("tasks.txt").toString()),
+                address);
+        server.start();
+        return server;
+    }
+
+    private static BufferedReader reader(SocketChannel channel) {
+        return new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+    }
+
+    private static void send(SocketChannel channel, String text) {
+        try {
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(text);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String readReply(BufferedReader in) throws IOException {
+        StringBuilder reply = new StringBuilder();
+        String line;
+        while (!(line = in.readLine()).equals(".")) {
+            if (reply.length() > 0) {
+                reply.append('\n');
+            }
+            reply.append(line.startsWith("..") ? line.substring(1) : line);
+        }
+        return reply.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package echo.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import echo.exception.EchoException;
+import echo.parser.ParsedCommand;
+import echo.util.ParseResult;
+
+public class CommandRegistryTest {
+
+    private CommandRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry();
+        registry.register("deadline", command -> ParseResult.success("deadline " + command.getArguments()), "dl");
+        registry.register("delete", command -> ParseResult.success("delete"), "rm");
+        registry.register("dedupe", false, command -> ParseResult.success("dedupe"));
+        registry.register("list", command -> ParseResult.success("list"), "ls");
+        registry.register("mark", command -> ParseResult.success("mark"));
+        registry.register("unmark", command -> ParseResult.success("unmark"));
+    }
+
+    @Test
+    public void resolve_nameOrAlias_returnsName() throws EchoException {
+        assertEquals("deadline", registry.resolve("deadline"));
+        assertEquals("deadline", registry.resolve("dl"));
+        assertEquals("list", registry.resolve("ls"));
+        assertEquals("delete", registry.resolve("rm"));
+    }
+
+    @Test
+    public void resolve_uniquePrefix_returnsName() throws EchoException {
+        assertEquals("mark", registry.resolve("m"));
+        assertEquals("deadline", registry.resolve("dea"));
+        assertEquals("delete", registry.resolve("del"));
+        assertEquals("list", registry.resolve("l"));
+        assertEquals("unmark", registry.resolve("u"));
+    }
+
+    @Test
+    public void resolve_ambiguousPrefix_exceptionThrown() {
+        EchoException exception = assertThrows(EchoException.class, () -> registry.resolve("de"));
+        assertEquals("'de' could be deadline, dedupe or delete. Please type more of the command.",
+                exception.getMessage());
+    }
+
+    @Test
+    public void resolve_prefixOfExactOnlyCommand_exceptionThrown() throws EchoException {
+        EchoException exception = assertThrows(EchoException.class, () -> registry.resolve("ded"));
+        assertEquals("Please type 'dedupe' in full to run it.", exception.getMessage());
+        assertEquals("dedupe", registry.resolve("dedupe"));
+    }
+
+    @Test
+    public void resolve_unknownWord_returnsNull() throws EchoException {
+        assertNull(registry.resolve(""));
+        assertNull(registry.resolve("x"));
+        assertNull(registry.resolve("marks"));
+        assertNull(registry.resolve("lst"));
+    }
+
+    @Test
+    public void getHandler_resolvedAlias_runsWithExpandedInput() throws Exception {
+        ParsedCommand parsed = ParsedCommand.parse("dl report /by Friday");
+        ParsedCommand resolved = parsed.withCommand(registry.resolve(parsed.getCommand()));
+
+        assertEquals("deadline report /by Friday", resolved.getInput());
+        assertEquals("deadline report /by Friday", registry.getHandler(resolved.getCommand()).execute(resolved)
+                .getValue());
+        assertNull(registry.getHandler("dl"));
+    }
+}
@@ -2,11 +2,17 @@ package echo.parser;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 import echo.exception.EchoException;
+import echo.util.ParseResult;
 
 public class ParserTest {
 
@@ -88,6 +94,39 @@ public class ParserTest {
         assertThrows(EchoException.class, () -> Parser.getTaskNumber("unmark one"));
     }
 
+    // ========== getTaskNumbers Tests ==========
+    @Test
+    public void getTaskNumbers_singleNumber_success() throws EchoException {
+        assertArrayEquals(new int[]{2}, Parser.getTaskNumbers("mark 3", 5));
+    }
+
+    @Test
+    public void getTaskNumbers_rangesAndLists_sortedWithoutDuplicates() throws EchoException {
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, Parser.getTaskNumbers("mark 1-5", 5));
+        assertArrayEquals(new int[]{2, 6, 8, 9, 10}, Parser.getTaskNumbers("delete 3,7,9-11", 20));
+        assertArrayEquals(new int[]{1, 2, 3}, Parser.getTaskNumbers("unmark 4, 2-3, 3", 20));
+    }
+
+    @Test
+    public void getTaskNumbers_missingNumber_exceptionThrown() {
+        assertThrows(EchoException.class, () -> Parser.getTaskNumbers("mark", 5));
+        assertThrows(EchoException.class, () -> Parser.getTaskNumbers("delete   ", 5));
+    }
+
+    @Test
+    public void getTaskNumbers_invalidSelection_exceptionThrown() {
+        assertThrows(EchoException.class, () -> Parser.getTaskNumbers("mark 1-", 5));
+        assertThrows(EchoException.class, () -> Parser.getTaskNumbers("mark 5-2", 5));
+        assertThrows(EchoException.class, () -> Parser.getTaskNumbers("mark 1,,2", 5));
+        assertThrows(EchoException.class, () -> Parser.getTaskNumbers("mark a-b", 5));
+    }
+
+    @Test
+    public void getTaskNumbers_outOfRange_exceptionThrown() {
+        EchoException exception = assertThrows(EchoException.class, () -> Parser.getTaskNumbers("mark 2-6", 5));
+        assertEquals("Task number doesn't exist. Please provide a number between 1 and 5.", exception.getMessage());
+    }
+
     // ========== parseDeadline Tests ==========
     @Test
     public void parseDeadline_validInput_success() throws EchoException {
@@ -193,4 +232,137 @@ public class ParserTest {
         // This will parse incorrectly but Parser doesn't validate order
         assertEquals(3, result.length);
     }
+
+    // ========== Option Tests ==========
+    @Test
+    public void extractOption_presentOption_returnsValue() {
+        assertEquals("3", Parser.extractOption("--page 3 --size 50", "--page"));
+        assertEquals("50", Parser.extractOption("book  --page 3 --size 50", "--size"));
+    }
+
+    @Test
+    public void extractOption_missingOrValueless_returnsNull() {
+        assertNull(Parser.extractOption("book", "--page"));
+        assertNull(Parser.extractOption("book --page", "--page"));
+    }
+
+    @Test
+    public void removeOptions_withOptions_keywordOnly() {
+        assertEquals("read book", Parser.removeOptions("read book --page 2 --size 10"));
+        assertEquals("book", Parser.removeOptions("--page 2 book"));
+        assertEquals("buy  milk", Parser.removeOptions("buy  milk"));
+    }
+
+    // ========== Tokenizer Tests ==========
+    private static final String[] FRAGMENTS = {
+        "meet", "a", "", " ", "  ", "\t", " /by ", " /from ", " /to ", " /repeat ", "/by", "/to ", " /", "2",
+        "weekly", "--page", "-"
+    };
+
+    @Test
+    public void splitWords_randomInput_matchesRegexSplit() {
+        Random random = new Random(40);
+        for (int i = 0; i < 2000; i++) {
+            String text = randomInput(random);
+            assertArrayEquals(text.split("\\s+"), Parser.splitWords(text), "Input: '" + text + "'");
+        }
+    }
+
+    @Test
+    public void parseDeadlineAndEvent_randomInput_matchRegexParsing() {
+        Random random = new Random(41);
+        for (int i = 0; i < 5000; i++) {
+            String text = randomInput(random);
+            assertEquals(legacyOutcome(() -> legacyParseDeadline(text)),
+                    legacyOutcome(() -> Parser.parseDeadline(text)), "Deadline: '" + text + "'");
+            assertEquals(legacyOutcome(() -> legacyParseEvent(text)),
+                    legacyOutcome(() -> Parser.parseEvent(text)), "Event: '" + text + "'");
+            String withoutRepeat = Parser.removeRecurrence(text);
+            assertEquals(legacyOutcome(() -> legacyParseEvent(withoutRepeat)),
+                    legacyOutcome(() -> Parser.parseEvent(ParsedCommand.ofArguments(text))), "Event: '" + text + "'");
+        }
+    }
+
+    @Test
+    public void parseEvent_parsedCommandWithRepeat_ignoresRepeat() throws EchoException {
+        ParsedCommand parsed = ParsedCommand.parse("event standup /from 2024-12-16 0900 /to 0915 /repeat daily");
+        String[] result = Parser.parseEvent(parsed);
+        assertEquals("standup", result[0]);
+        assertEquals("2024-12-16 0900", result[1]);
+        assertEquals("0915", result[2]);
+        assertEquals("daily", Parser.extractRecurrence(parsed));
+    }
+
+    @Test
+    public void getTaskNumbers_extraWhitespace_success() throws EchoException {
+        assertArrayEquals(new int[]{0, 1}, Parser.getTaskNumbers("  mark \t 1-2  ", 5));
+    }
+
+    @Test
+    public void tryParse_invalidInput_failureWithSameMessage() {
+        ParseResult<String[]> deadline = Parser.tryParseDeadline(ParsedCommand.parse("deadline report"));
+        assertFalse(deadline.isSuccess());
+        assertEquals("Deadlines need a date! Use: deadline <task> /by <date>", deadline.getErrorMessage());
+
+        ParseResult<int[]> numbers = Parser.tryGetTaskNumbers("mark 5-3", 10);
+        assertFalse(numbers.isSuccess());
+        assertEquals("Invalid range '5-3'. Use: <first>-<last>, e.g. 3-7", numbers.getErrorMessage());
+    }
+
+    @Test
+    public void tryGetTaskNumbers_validSelection_success() {
+        ParseResult<int[]> numbers = Parser.tryGetTaskNumbers("delete 3,1-2", 3);
+        assertTrue(numbers.isSuccess());
+        assertArrayEquals(new int[]{0, 1, 2}, numbers.getValue());
+    }
+
+    private static String randomInput(Random random) {
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns the parsed parts, or the error message, so both can be compared in one assertion.
+     */
+    private static String legacyOutcome(ThrowingParse parse) {
+        try {
+            return String.join("|", parse.run());
+        } catch (EchoException e) {
+            return "error: " + e.getMessage();
+        }
+    }
+
+    private static String[] legacyParseDeadline(String description) throws EchoException {
+        if (!description.contains(" /by ")) {
+            throw new EchoException("Deadlines need a date! Use: deadline <task> /by <date>");
+        }
+        String[] parts = description.split(" /by ", 2);
+        if (parts.length < 2 || parts[0].trim().isEmpty() || parts[1].trim().isEmpty()) {
+            throw new EchoException("Please provide both description and deadline date.");
+        }
+        return new String[]{parts[0].trim(), parts[1].trim()};
+    }
+
+    private static String[] legacyParseEvent(String description) throws EchoException {
+        if (!description.contains(" /from ")) {
+            throw new EchoException("Events need a start time! Use: event <task> /from <time> /to <time>");
+        }
+        if (!description.contains(" /to ")) {
+            throw new EchoException("Events need an end time! Use: event <task> /from <time> /to <time>");
+        }
+        String[] parts = description.split(" /from | /to ");
+        if (parts.length < 3 || parts[0].trim().isEmpty() || parts[1].trim().isEmpty()
+                || parts[2].trim().isEmpty()) {
+            throw new EchoException("Please provide event description, start time, and end time.");
+        }
+        return new String[]{parts[0].trim(), parts[1].trim(), parts[2].trim()};
+    }
+
+    private interface ThrowingParse {
+        String[] run() throws EchoException;
+    }
 }
@@ -0,0 +1,92 @@
+package echo.query;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import echo.exception.EchoException;
+import echo.task.Deadline;
+import echo.task.Event;
+import echo.task.Todo;
+import echo.tasklist.SortKey;
+import echo.tasklist.TaskList;
+
+public class QueryCompilerTest {
+
+    private TaskList tasks;
+
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        tasks.add(new Todo("write report"));
+        tasks.add(new Deadline("report draft", "2024-12-20 1800"));
+        tasks.add(new Deadline("report final", "2024-11-01"));
+        tasks.add(new Deadline("tax", "Sunday"));
+        tasks.add(new Event("meeting", "2024-10-01 1000", "2024-10-01 1100"));
+        tasks.markDone(2);
+    }
+
+    @Test
+    public void compile_sameQuery_returnsCachedPlan() throws EchoException {
+        assertSame(QueryCompiler.compile("type:D limit:3"), QueryCompiler.compile(" type:D limit:3 "));
+    }
+
+    @Test
+    public void execute_typeAndDoneFilters_matchingIndices() throws EchoException {
+        assertArrayEquals(new int[]{1, 3}, QueryCompiler.compile("type:D done:false").execute(tasks));
+        assertArrayEquals(new int[]{1, 2, 3, 4}, QueryCompiler.compile("type:d,e").execute(tasks));
+    }
+
+    @Test
+    public void execute_dateComparisons_wholeDayForDates() throws EchoException {
+        assertArrayEquals(new int[]{2, 4}, QueryCompiler.compile("due<2024-12-01").execute(tasks));
+        assertArrayEquals(new int[]{1}, QueryCompiler.compile("due:2024-12-20").execute(tasks));
+        assertArrayEquals(new int[]{1, 2}, QueryCompiler.compile("due>=2024-11-01 due<=2024-12-20").execute(tasks));
+    }
+
+    @Test
+    public void execute_dateTimeComparisons_exactTime() throws EchoException {
+        assertArrayEquals(new int[]{2, 4}, QueryCompiler.compile("due<2024-12-20T18:00").execute(tasks));
+        assertArrayEquals(new int[]{1, 2, 4}, QueryCompiler.compile("due<=2024-12-20T18:00").execute(tasks));
+        assertArrayEquals(new int[]{1}, QueryCompiler.compile("due>2024-12-20T17:59").execute(tasks));
+    }
+
+    @Test
+    public void execute_textAndBareWords_substringMatch() throws EchoException {
+        assertArrayEquals(new int[]{0, 1, 2}, QueryCompiler.compile("report").execute(tasks));
+        assertArrayEquals(new int[]{1, 2}, QueryCompiler.compile("text:report type:D").execute(tasks));
+    }
+
+    @Test
+    public void execute_sortAndLimit_bestResultsInOrder() throws EchoException {
+        assertArrayEquals(new int[]{4, 2, 1, 0, 3}, QueryCompiler.compile("sort:due").execute(tasks));
+        assertArrayEquals(new int[]{1, 2}, QueryCompiler.compile("sort:-due limit:2").execute(tasks));
+        assertArrayEquals(new int[]{0, 1}, QueryCompiler.compile("limit:2").execute(tasks));
+    }
+
+    @Test
+    public void compile_invalidTerms_exceptionThrown() {
+        assertThrows(EchoException.class, () -> QueryCompiler.compile("colour:red"));
+        assertThrows(EchoException.class, () -> QueryCompiler.compile("done:maybe"));
+        assertThrows(EchoException.class, () -> QueryCompiler.compile("type:X"));
+        assertThrows(EchoException.class, () -> QueryCompiler.compile("due>someday"));
+        assertThrows(EchoException.class, () -> QueryCompiler.compile("limit:0"));
+        assertThrows(EchoException.class, () -> QueryCompiler.compile("sort:colour"));
+        assertThrows(EchoException.class, () -> QueryCompiler.compile("type<T"));
+    }
+
+    @Test
+    public void execute_sortedViewAvailable_sameResultsAsSorting() throws EchoException {
+        int[] sorted = QueryCompiler.compile("done:false sort:due limit:3").execute(tasks);
+        int[] sortedByStatus = QueryCompiler.compile("report sort:status").execute(tasks);
+        tasks.getSortedView(SortKey.DUE);
+        tasks.getSortedView(SortKey.STATUS);
+
+        assertArrayEquals(new int[]{4, 1, 0}, sorted);
+        assertArrayEquals(sorted, QueryCompiler.compile("done:false sort:due limit:3").execute(tasks));
+        assertArrayEquals(sortedByStatus, QueryCompiler.compile("report sort:status").execute(tasks));
+    }
+}
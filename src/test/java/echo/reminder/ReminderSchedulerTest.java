@@ -0,0 +1,115 @@
+package echo.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import echo.task.Deadline;
+import echo.task.Event;
+import echo.task.Todo;
+import echo.tasklist.TaskList;
+
+public class ReminderSchedulerTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+    private TaskList tasks;
+    private List<String> messages;
+    private ReminderScheduler reminders;
+
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        messages = new ArrayList<>();
+        reminders = new ReminderScheduler(Duration.ofMinutes(15), NOW,
+                reminder -> messages.add(reminder.getMessage()));
+        tasks.attachListener(reminders);
+    }
+
+    @Test
+    public void advanceTo_beforeDeadline_remindsOnce() {
+        tasks.add(new Deadline("submit report", "2025-01-15 1800"));
+        tasks.add(new Todo("read book"));
+        tasks.add(new Deadline("old report", "2025-01-14 1800"));
+        assertEquals(1, reminders.getPendingCount());
+
+        reminders.advanceTo(NOW.withHour(17).withMinute(44));
+        assertEquals(0, messages.size());
+
+        reminders.advanceTo(NOW.withHour(17).withMinute(45));
+        assertEquals(List.of("Reminder: submit report is due at Jan 15 2025, 6:00PM"), messages);
+        assertEquals(0, reminders.getPendingCount());
+    }
+
+    @Test
+    public void removeListener_laterChanges_notScheduled() {
+        tasks.add(new Deadline("a", "2025-01-15 1800"));
+        tasks.removeListener(reminders);
+        tasks.add(new Deadline("b", "2025-01-15 1800"));
+
+        assertEquals(1, reminders.getPendingCount());
+    }
+
+    @Test
+    public void advanceTo_removedOrDoneTasks_noReminder() {
+        tasks.add(new Deadline("a", "2025-01-15 1800"));
+        tasks.add(new Deadline("b", "2025-01-15 1800"));
+        tasks.remove(0);
+        tasks.markDone(0);
+
+        reminders.advanceTo(NOW.plusDays(1));
+
+        assertEquals(0, messages.size());
+    }
+
+    @Test
+    public void advanceTo_recurringEvent_remindsEachOccurrence() {
+        tasks.add(new Event("standup", "2025-01-13 0900", "2025-01-13 0930", "daily"));
+
+        reminders.advanceTo(NOW.plusDays(2));
+
+        assertEquals(List.of("Reminder: standup starts at Jan 16 2025, 9:00AM",
+                "Reminder: standup starts at Jan 17 2025, 9:00AM"), messages);
+        assertEquals(1, reminders.getPendingCount());
+    }
+
+    @Test
+    public void advanceTo_monthlyEventOnThe31st_keepsItsDay() {
+        tasks.add(new Event("rent", "2024-10-31 0900", "2024-10-31 0930", "monthly"));
+
+        reminders.advanceTo(LocalDateTime.of(2025, 4, 1, 0, 0));
+
+        assertEquals(List.of("Reminder: rent starts at Jan 31 2025, 9:00AM",
+                "Reminder: rent starts at Feb 28 2025, 9:00AM",
+                "Reminder: rent starts at Mar 31 2025, 9:00AM"), messages);
+    }
+
+    @Test
+    public void taskAdded_eventStartedYearsAgo_nextOccurrenceScheduled() {
+        tasks.add(new Event("gym", "1990-01-01 1200", "1990-01-01 1300", "daily"));
+        tasks.add(new Event("lunch", "1990-01-03 1220", "1990-01-03 1300", "weekly"));
+
+        reminders.advanceTo(NOW.plusDays(1));
+
+        assertEquals(List.of("Reminder: lunch starts at Jan 15 2025, 12:20PM",
+                "Reminder: gym starts at Jan 16 2025, 12:00PM"), messages);
+    }
+
+    @Test
+    public void tasksReset_afterUndo_reschedules() {
+        tasks.add(new Deadline("a", "2025-01-15 1800"));
+        tasks.commit();
+        tasks.clear();
+        tasks.commit();
+        assertEquals(0, reminders.getPendingCount());
+
+        tasks.undo(1);
+
+        assertEquals(1, reminders.getPendingCount());
+    }
+}
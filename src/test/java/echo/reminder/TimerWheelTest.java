@@ -0,0 +1,99 @@
+package echo.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TimerWheelTest {
+
+    @Test
+    public void advanceTo_expiresInOrderAtTheirTick() {
+        TimerWheel<String> wheel = new TimerWheel<>(100);
+        wheel.schedule("c", 5000);
+        wheel.schedule("a", 101);
+        wheel.schedule("b", 170);
+        List<String> fired = new ArrayList<>();
+
+        wheel.advanceTo(169, fired::add);
+        assertEquals(List.of("a"), fired);
+
+        wheel.advanceTo(4999, fired::add);
+        assertEquals(List.of("a", "b"), fired);
+
+        wheel.advanceTo(5000, fired::add);
+        assertEquals(List.of("a", "b", "c"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void cancel_pending_neverExpires() {
+        TimerWheel<String> wheel = new TimerWheel<>(0);
+        TimerWheel.Timeout<String> timeout = wheel.schedule("a", 300);
+
+        assertTrue(wheel.cancel(timeout));
+        assertFalse(wheel.cancel(timeout));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(1000, fired::add);
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    public void schedule_pastTick_expiresOnNextAdvance() {
+        TimerWheel<String> wheel = new TimerWheel<>(50);
+        wheel.schedule("late", 10);
+        List<String> fired = new ArrayList<>();
+
+        wheel.advanceTo(51, fired::add);
+
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    public void schedule_beyondWheelSpan_expiresOnTime() {
+        long far = 1L << 25;
+        TimerWheel<Long> wheel = new TimerWheel<>(7);
+        wheel.schedule(far, far);
+        List<Long> fired = new ArrayList<>();
+
+        wheel.advanceTo(far - 1, fired::add);
+        assertTrue(fired.isEmpty());
+        wheel.advanceTo(far, fired::add);
+        assertEquals(List.of(far), fired);
+    }
+
+    @Test
+    public void advanceTo_randomSchedule_everyItemExpiresAtItsTick() {
+        Random random = new Random(7);
+        TimerWheel<Long> wheel = new TimerWheel<>(0);
+        List<TimerWheel.Timeout<Long>> timeouts = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            long tick = 1 + random.nextInt(300000);
+            timeouts.add(wheel.schedule(tick, tick));
+        }
+        int cancelled = 0;
+        for (int i = 0; i < timeouts.size(); i += 3) {
+            wheel.cancel(timeouts.get(i));
+            cancelled++;
+        }
+
+        long[] window = new long[2];
+        int[] firedCount = new int[1];
+        while (window[1] < 300000) {
+            window[0] = window[1];
+            window[1] += 1 + random.nextInt(5000);
+            wheel.advanceTo(window[1], tick -> {
+                assertTrue(tick > window[0] && tick <= window[1]);
+                firedCount[0]++;
+            });
+        }
+        assertEquals(timeouts.size() - cancelled, firedCount[0]);
+        assertEquals(0, wheel.size());
+    }
+}
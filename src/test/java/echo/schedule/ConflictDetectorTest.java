@@ -0,0 +1,98 @@
+package echo.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import echo.task.Event;
+import echo.task.Todo;
+import echo.tasklist.TaskList;
+
+public class ConflictDetectorTest {
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    private TaskList tasks;
+
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+    }
+
+    @Test
+    public void findConflicts_oneOffEvents_overlapReported() {
+        tasks.add(new Event("meeting", "2025-01-10 1400", "2025-01-10 1600"));
+        tasks.add(new Todo("read book"));
+        tasks.add(new Event("call", "2025-01-10 1500", "2025-01-10 1530"));
+        tasks.add(new Event("lunch", "2025-01-10 1600", "2025-01-10 1700"));
+
+        List<Conflict> conflicts = ConflictDetector.findConflicts(tasks, FROM, TO);
+
+        assertEquals(1, conflicts.size());
+        assertEquals(0, conflicts.get(0).getFirstIndex());
+        assertEquals(2, conflicts.get(0).getSecondIndex());
+        assertEquals(LocalDateTime.of(2025, 1, 10, 15, 0), conflicts.get(0).getStart());
+    }
+
+    @Test
+    public void findConflicts_recurringEvents_collideOnlyOnSomeDates() {
+        tasks.add(new Event("standup", "2024-12-02 0900", "2024-12-02 0930", "daily"));
+        tasks.add(new Event("review", "2025-01-06 0915", "2025-01-06 1000", "weekly"));
+
+        List<Conflict> conflicts = ConflictDetector.findConflicts(tasks, FROM, TO);
+
+        assertEquals(4, conflicts.size());
+        assertEquals(LocalDateTime.of(2025, 1, 6, 9, 15), conflicts.get(0).getStart());
+        assertEquals(LocalDateTime.of(2025, 1, 27, 9, 15), conflicts.get(3).getStart());
+        assertEquals("standup", conflicts.get(3).getFirst().getDescription());
+    }
+
+    @Test
+    public void findConflicts_dateOnlyAndUnparsedEvents() {
+        tasks.add(new Event("conference", "2025-01-20", "2025-01-21"));
+        tasks.add(new Event("dinner", "2025-01-21 1900", "2025-01-21 2100"));
+        tasks.add(new Event("party", "Friday 8pm", "late"));
+
+        List<Conflict> conflicts = ConflictDetector.findConflicts(tasks, FROM, TO);
+
+        assertEquals(1, conflicts.size());
+        assertEquals("dinner", conflicts.get(0).getSecond().getDescription());
+    }
+
+    @Test
+    public void findConflicts_recurringSinceLongAgo_occurrencesInWindowFound() {
+        tasks.add(new Event("gym", "1990-01-01 1800", "1990-01-01 1900", "daily"));
+        tasks.add(new Event("rent", "1990-01-31 1830", "1990-01-31 2000", "monthly"));
+        tasks.add(new Event("overnight", "1990-01-01 2330", "1990-01-02 0100", "weekly"));
+
+        List<Conflict> conflicts = ConflictDetector.findConflicts(tasks, FROM, TO);
+
+        assertEquals(1, conflicts.size());
+        assertEquals("rent", conflicts.get(0).getSecond().getDescription());
+        assertEquals(LocalDateTime.of(2025, 1, 31, 18, 30), conflicts.get(0).getStart());
+    }
+
+    @Test
+    public void findConflicts_eventLongerThanItsPeriod_noConflictWithItself() {
+        tasks.add(new Event("long", "2025-01-06 1000", "2025-01-08 1000", "daily"));
+        tasks.add(new Event("call", "2025-01-20 0900", "2025-01-20 0930"));
+
+        List<Conflict> conflicts = ConflictDetector.findConflicts(tasks, FROM, TO);
+
+        assertEquals(2, conflicts.size());
+        assertEquals("call", conflicts.get(0).getSecond().getDescription());
+        assertEquals("call", conflicts.get(1).getSecond().getDescription());
+    }
+
+    @Test
+    public void findConflicts_outsideWindow_ignored() {
+        tasks.add(new Event("a", "2025-03-01 1000", "2025-03-01 1100"));
+        tasks.add(new Event("b", "2025-03-01 1000", "2025-03-01 1100"));
+
+        assertEquals(0, ConflictDetector.findConflicts(tasks, FROM, TO).size());
+    }
+}
@@ -1,13 +1,16 @@
 package echo.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -236,6 +239,39 @@ public class StorageTest {
         assertEquals("[T][ ] task 3", loaded.get(0).toString());
     }
 
+    @Test
+    public void save_existingFile_replacedWithoutLeavingTemporaryFiles() throws IOException {
+        writeToFile("T | 0 | old task");
+        TaskList tasks = new TaskList();
+        tasks.add(new Todo("new task"));
+
+        storage.save(tasks);
+
+        assertEquals("[T][ ] new task", storage.load().get(0).toString());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void load_repeatedValues_shareStrings() throws IOException {
+        writeToFile("D | 0 | water plants | 2025-03-01\nD | 1 | water plants | 2025-03-01\n");
+
+        ArrayList<Task> tasks = storage.load();
+        assertSame(tasks.get(0).getDescription(), tasks.get(1).getDescription());
+    }
+
+    @Test
+    public void saveAndLoad_unknownRecurrence_keptUnchanged() throws IOException {
+        writeToFile("E | 0 | standup | 2025-03-03 0900 | 2025-03-03 0915 | fortnightly\n");
+
+        TaskList tasks = new TaskList(storage.load());
+        storage.save(tasks);
+
+        assertEquals("E | 0 | standup | 2025-03-03 0900 | 2025-03-03 0915 | fortnightly",
+                Files.readAllLines(Path.of(testFilePath)).get(0));
+    }
+
     // ========== Helper Methods ==========
     private void writeToFile(String content) throws IOException {
         File file = new File(testFilePath);
@@ -1,6 +1,7 @@
 package echo.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -130,4 +131,20 @@ public class EventTest {
         assertTrue(result.contains("(repeats weekly)"));
         assertTrue(!result.contains("Next:"));
     }
+
+    @Test
+    public void constructor_unknownRecurrenceName_doesNotRepeatButIsSaved() {
+        Event event = new Event("meeting", "2024-12-16 1400", "2024-12-16 1500", "yearly");
+        assertNull(event.getRecurrence());
+        assertEquals("E | 0 | meeting | 2024-12-16 1400 | 2024-12-16 1500 | yearly", event.toFileFormat());
+        assertEquals("E | 0 | meeting | 2024-12-16 1400 | 2024-12-16 1500 | none",
+                new Event("meeting", "2024-12-16 1400", "2024-12-16 1500", "none").toFileFormat());
+    }
+
+    @Test
+    public void getNextOccurrences_monthly_usesRecurrence() {
+        Event event = new Event("rent", "2024-01-31 0900", "2024-01-31 1000", Recurrence.MONTHLY);
+        assertEquals(Recurrence.MONTHLY, event.getRecurrence());
+        assertEquals("2024-02-29T09:00", event.getNextOccurrences(1).get(0).toString());
+    }
 }
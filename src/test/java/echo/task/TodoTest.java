@@ -1,9 +1,12 @@
 package echo.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
+import echo.util.StringPool;
+
 public class TodoTest {
 
     @Test
@@ -13,6 +16,17 @@ public class TodoTest {
         assertEquals(" ", todo.getStatusIcon());
     }
 
+    @Test
+    public void constructor_samePool_descriptionAndSearchKeyShared() {
+        StringPool pool = new StringPool();
+        Todo first = new Todo(new String("Water Plants"), pool);
+        Todo second = new Todo(new String("Water Plants"), pool);
+
+        assertSame(first.getDescription(), second.getDescription());
+        assertSame(first.getSearchKey(), second.getSearchKey());
+        assertEquals("water plants", second.getSearchKey());
+    }
+
     @Test
     public void markDone_notDoneTask_marksAsDone() {
         Todo todo = new Todo("buy milk");
@@ -66,4 +80,18 @@ public class TodoTest {
         todo.markDone();
         assertEquals("X", todo.getStatusIcon());
     }
+
+    @Test
+    public void toString_markedAfterRendering_rendersAgain() {
+        Todo todo = new Todo("read book");
+        String line = todo.toString();
+        assertSame(line, todo.toString());
+
+        todo.markDone();
+        Task copy = todo.copy();
+        copy.markNotDone();
+
+        assertEquals("[T][X] read book", todo.toString());
+        assertEquals("[T][ ] read book", copy.toString());
+    }
 }
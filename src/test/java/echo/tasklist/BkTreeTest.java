@@ -0,0 +1,39 @@
+package echo.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    @Test
+    public void distance_knownPairs_correctDistance() {
+        assertEquals(0, BkTree.distance("meeting", "meeting"));
+        assertEquals(2, BkTree.distance("meetnig", "meeting"));
+        assertEquals(3, BkTree.distance("kitten", "sitting"));
+        assertEquals(4, BkTree.distance("", "book"));
+    }
+
+    @Test
+    public void add_duplicateWord_storedOnce() {
+        BkTree tree = new BkTree();
+        tree.add("book");
+        tree.add("book");
+        tree.add("books");
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_withinDistance_returnsMatchesWithDistances() {
+        BkTree tree = new BkTree();
+        for (String word : new String[]{"book", "books", "boot", "cook", "meeting", "meat", "read"}) {
+            tree.add(word);
+        }
+
+        assertEquals(Map.of("book", 0, "books", 1, "boot", 1, "cook", 1), tree.search("book", 1));
+        assertEquals(Map.of("meeting", 2), tree.search("meetnig", 2));
+        assertEquals(Map.of(), tree.search("xyz", 1));
+    }
+}
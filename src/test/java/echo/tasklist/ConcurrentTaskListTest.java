@@ -0,0 +1,99 @@
+package echo.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import echo.task.Task;
+import echo.task.Todo;
+
+public class ConcurrentTaskListTest {
+
+    private ConcurrentTaskList tasks;
+
+    @BeforeEach
+    public void setUp() {
+        tasks = new ConcurrentTaskList();
+    }
+
+    @Test
+    public void constructor_withArrayList_success() {
+        ArrayList<Task> taskList = new ArrayList<>();
+        taskList.add(new Todo("task 1"));
+        taskList.add(new Todo("task 2"));
+
+        assertEquals(2, new ConcurrentTaskList(taskList).size());
+    }
+
+    @Test
+    public void addAndRemove_updatesReaders() {
+        tasks.add(new Todo("task 1"));
+        tasks.add(new Todo("task 2"));
+        tasks.remove(0);
+
+        assertEquals(1, tasks.size());
+        assertEquals("task 2", tasks.get(0).getDescription());
+    }
+
+    @Test
+    public void snapshot_laterWrites_notVisible() {
+        tasks.add(new Todo("task 1"));
+        TaskList snapshot = tasks.snapshot();
+
+        tasks.add(new Todo("task 2"));
+        tasks.clear();
+
+        assertEquals(1, snapshot.size());
+        assertEquals("task 1", snapshot.get(0).getDescription());
+        assertEquals(0, tasks.size());
+    }
+
+    @Test
+    public void snapshot_modified_originalUnchanged() {
+        TaskList snapshot = tasks.snapshot();
+        snapshot.add(new Todo("task"));
+
+        assertEquals(1, snapshot.size());
+        assertEquals(0, tasks.size());
+    }
+
+    @Test
+    public void concurrentReadersAndWriter_consistentSnapshots() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 0; i < 2000; i++) {
+                tasks.add(new Todo("task " + i));
+                if (i % 3 == 0) {
+                    tasks.remove(0);
+                }
+            }
+        });
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            readers.add(executor.submit(() -> {
+                while (!writer.isDone()) {
+                    TaskList snapshot = tasks.snapshot();
+                    for (int i = 0; i < snapshot.size(); i++) {
+                        assertTrue(snapshot.get(i).getDescription().startsWith("task "));
+                    }
+                }
+            }));
+        }
+        for (Future<?> reader : readers) {
+            reader.get();
+        }
+        writer.get();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(2000 - 667, tasks.size());
+    }
+}
@@ -0,0 +1,107 @@
+package echo.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_preservesOrder() {
+        PersistentList<String> list = PersistentList.of(List.of("a", "b", "c"));
+        assertEquals(3, list.size());
+        assertEquals("a", list.get(0));
+        assertEquals("c", list.get(2));
+    }
+
+    @Test
+    public void updates_oldVersionUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        PersistentList<String> updated = original.append("d").set(0, "z").remove(1);
+
+        assertEquals(List.of("a", "b", "c"), toList(original));
+        assertEquals(List.of("z", "c", "d"), toList(updated));
+    }
+
+    @Test
+    public void get_invalidIndex_exceptionThrown() {
+        PersistentList<String> list = PersistentList.<String>empty().append("a");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(1));
+    }
+
+    @Test
+    public void iterator_fromIndex_startsAtIndex() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 37; i++) {
+            values.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(values);
+
+        for (int from = 0; from <= 37; from++) {
+            Iterator<Integer> iterator = list.iterator(from);
+            for (int i = from; i < 37; i++) {
+                assertEquals(i, iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.iterator(38));
+    }
+
+    @Test
+    public void removeAll_smallAndLargeSelections_matchesArrayList() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(values);
+
+        assertEquals(List.of(0, 1, 3, 4, 5, 6, 7, 8, 9, 10), toList(list.removeAll(new int[]{2})).subList(0, 10));
+        int[] evens = new int[50];
+        for (int i = 0; i < 50; i++) {
+            evens[i] = 2 * i;
+        }
+        List<Integer> odds = toList(list.removeAll(evens));
+        assertEquals(50, odds.size());
+        assertEquals(1, odds.get(0));
+        assertEquals(99, odds.get(49));
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                expected.add(i);
+                actual = actual.append(i);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            }
+        }
+        assertEquals(expected, toList(actual));
+    }
+
+    private static <T> List<T> toList(PersistentList<T> list) {
+        List<T> result = new ArrayList<>();
+        list.forEach(result::add);
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+package echo.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import echo.task.Deadline;
+import echo.task.Task;
+import echo.task.Todo;
+
+public class SortedViewTest {
+
+    private TaskList tasks;
+
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        tasks.add(new Todo("read book"));
+        tasks.add(new Deadline("report", "2025-03-01"));
+        tasks.add(new Deadline("essay", "2025-01-15"));
+    }
+
+    @Test
+    public void page_dueOrder_keepsListIndices() {
+        List<SortedView.Entry> page = tasks.getSortedView(SortKey.DUE).page(0, 10);
+
+        assertEquals(3, page.size());
+        assertEquals("essay", page.get(0).getTask().getDescription());
+        assertEquals(2, page.get(0).getIndex());
+        assertEquals("report", page.get(1).getTask().getDescription());
+        assertEquals(1, page.get(1).getIndex());
+        assertEquals("read book", page.get(2).getTask().getDescription());
+        assertEquals(0, page.get(2).getIndex());
+    }
+
+    @Test
+    public void page_afterChanges_keptUpToDate() {
+        SortedView view = tasks.getSortedView(SortKey.STATUS);
+        tasks.markDone(0);
+        tasks.remove(1);
+        tasks.add(new Todo("walk dog"));
+
+        List<SortedView.Entry> page = view.page(0, 10);
+
+        assertEquals(3, page.size());
+        assertEquals("essay", page.get(0).getTask().getDescription());
+        assertEquals(1, page.get(0).getIndex());
+        assertEquals("walk dog", page.get(1).getTask().getDescription());
+        assertEquals(2, page.get(1).getIndex());
+        assertEquals("[T][X] read book", page.get(2).getTask().toString());
+        assertEquals(0, page.get(2).getIndex());
+    }
+
+    @Test
+    public void page_afterUndo_rebuilt() {
+        tasks.commit();
+        SortedView view = tasks.getSortedView(SortKey.TYPE);
+        tasks.clear();
+        tasks.commit();
+        assertEquals(0, view.size());
+
+        tasks.undo(1);
+
+        assertEquals(3, view.size());
+        assertEquals(2, view.page(1, 1).get(0).getIndex());
+    }
+
+    @Test
+    public void page_randomChanges_matchesSortedList() {
+        Random random = new Random(42);
+        SortedView view = tasks.getSortedView(SortKey.STATUS);
+        for (int i = 0; i < 2000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 || tasks.size() == 0) {
+                tasks.add(new Todo("task " + i));
+            } else if (op == 1) {
+                tasks.remove(random.nextInt(tasks.size()));
+            } else {
+                tasks.markDone(random.nextInt(tasks.size()));
+            }
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (boolean isDone : new boolean[] {false, true}) {
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).isDone() == isDone) {
+                    expected.add(i);
+                }
+            }
+        }
+        List<Integer> actual = new ArrayList<>();
+        for (SortedView.Entry entry : view.page(0, tasks.size())) {
+            Task task = entry.getTask();
+            assertEquals(tasks.get(entry.getIndex()), task);
+            actual.add(entry.getIndex());
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void page_fromMiddle_matchesFullPage() {
+        for (int i = 0; i < 500; i++) {
+            tasks.add(new Deadline("task " + i, "2025-01-" + String.format("%02d", i % 28 + 1)));
+        }
+        SortedView view = tasks.getSortedView(SortKey.DUE);
+        List<SortedView.Entry> all = view.page(0, tasks.size());
+
+        for (int from : new int[] {0, 1, 250, 502, 503, 600}) {
+            List<SortedView.Entry> page = view.page(from, 7);
+            assertEquals(Math.max(0, Math.min(7, all.size() - from)), page.size());
+            for (int i = 0; i < page.size(); i++) {
+                assertEquals(all.get(from + i).getIndex(), page.get(i).getIndex());
+            }
+        }
+    }
+}
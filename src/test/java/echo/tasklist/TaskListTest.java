@@ -1,7 +1,10 @@
 package echo.tasklist;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 
@@ -109,6 +112,84 @@ public class TaskListTest {
         assertThrows(IndexOutOfBoundsException.class, () -> tasks.remove(-1));
     }
 
+    @Test
+    public void removeAll_scatteredIndices_remainingOrderPreserved() {
+        for (int i = 1; i <= 6; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+
+        int removed = tasks.removeAll(new int[]{0, 2, 3, 5});
+
+        assertEquals(4, removed);
+        assertEquals(2, tasks.size());
+        assertEquals("task 2", tasks.get(0).getDescription());
+        assertEquals("task 5", tasks.get(1).getDescription());
+    }
+
+    @Test
+    public void removeAll_invalidIndex_exceptionThrown() {
+        tasks.add(new Todo("task"));
+        assertThrows(IndexOutOfBoundsException.class, () -> tasks.removeAll(new int[]{0, 1}));
+        assertEquals(1, tasks.size());
+    }
+
+    // ========== Mark Tests ==========
+    @Test
+    public void markDone_sharedTask_originalUntouched() {
+        Task task = new Todo("task");
+        tasks.add(task);
+
+        Task marked = tasks.markDone(0);
+
+        assertEquals("X", marked.getStatusIcon());
+        assertEquals("X", tasks.get(0).getStatusIcon());
+        assertEquals(" ", task.getStatusIcon());
+    }
+
+    // ========== Undo/Redo Tests ==========
+    @Test
+    public void undo_committedChanges_restoresEarlierVersions() {
+        tasks.add(new Todo("task 1"));
+        tasks.commit();
+        tasks.add(new Todo("task 2"));
+        tasks.markDone(0);
+        tasks.commit();
+
+        assertEquals(1, tasks.undo(1));
+        assertEquals(1, tasks.size());
+        assertEquals(" ", tasks.get(0).getStatusIcon());
+
+        assertEquals(1, tasks.undo(5));
+        assertEquals(0, tasks.size());
+        assertEquals(0, tasks.undo(1));
+    }
+
+    @Test
+    public void redo_afterUndo_reappliesChanges() {
+        tasks.add(new Todo("task 1"));
+        tasks.commit();
+        tasks.remove(0);
+        tasks.commit();
+        tasks.undo(2);
+
+        assertEquals(2, tasks.redo(2));
+        assertEquals(0, tasks.size());
+        assertEquals(1, tasks.undo(1));
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void commit_afterUndo_clearsRedo() {
+        tasks.add(new Todo("task 1"));
+        tasks.commit();
+        tasks.undo(1);
+        tasks.add(new Todo("task 2"));
+        tasks.commit();
+
+        assertEquals(0, tasks.redo(1));
+        assertEquals("task 2", tasks.get(0).getDescription());
+    }
+
     // ========== Get Tests ==========
     @Test
     public void get_validIndex_success() {
@@ -223,13 +304,134 @@ public class TaskListTest {
     }
 
     @Test
-    public void findTasks_caseSensitive_returnsExactMatches() {
+    public void findTasks_differentCase_returnsAllMatches() {
         tasks.add(new Todo("Read Book"));
         tasks.add(new Todo("read book"));
+        tasks.add(new Todo("read notes"));
 
-        TaskList results = tasks.findTasks("book");
+        TaskList results = tasks.findTasks("BOOK");
+
+        assertEquals(2, results.size());
+        assertEquals("[T][ ] Read Book", results.get(0).toString());
+    }
+
+    @Test
+    public void findTasks_accentsAndWideCharacters_matchPlainKeyword() {
+        tasks.add(new Todo("Caf\u00e9 meeting"));
+        tasks.add(new Todo("\uff32\uff25\uff30\uff2f\uff32\uff34 draft"));
 
+        assertEquals(1, tasks.findTasks("cafe").size());
+        assertEquals(1, tasks.findTasks("Report").size());
+        assertEquals(1, tasks.findTasks("CAF\u00c9").size());
+    }
+
+    // ========== Fuzzy Find Tests ==========
+    @Test
+    public void findTasksFuzzy_typo_returnsClosestFirst() {
+        tasks.add(new Todo("team meeting"));
+        tasks.add(new Todo("Meetings notes"));
+        tasks.add(new Todo("read book"));
+
+        TaskList results = tasks.findTasksFuzzy("meetnig", 3);
+
+        assertEquals(2, results.size());
+        assertEquals("team meeting", results.get(0).getDescription());
+        assertEquals("Meetings notes", results.get(1).getDescription());
+    }
+
+    @Test
+    public void findTasksFuzzy_afterChanges_indexKeptUpToDate() {
+        tasks.add(new Todo("team meeting"));
+        tasks.findTasksFuzzy("meeting", 1);
+        tasks.commit();
+
+        tasks.add(new Todo("meeting notes"));
+        tasks.remove(0);
+        tasks.markDone(0);
+        tasks.commit();
+        TaskList results = tasks.findTasksFuzzy("meting", 1);
         assertEquals(1, results.size());
-        assertEquals("[T][ ] read book", results.get(0).toString());
+        assertEquals("[T][X] meeting notes", results.get(0).toString());
+
+        tasks.undo(1);
+        results = tasks.findTasksFuzzy("meting", 1);
+        assertEquals(1, results.size());
+        assertEquals("team meeting", results.get(0).getDescription());
+    }
+
+    @Test
+    public void findTopTasks_rankedByRelevance_keepsBestK() {
+        tasks.add(new Todo("write report"));
+        tasks.add(new Todo("report report draft"));
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("send the report to boss"));
+        tasks.markDone(3);
+
+        TaskList results = tasks.findTopTasks("report", 2);
+
+        assertEquals(2, results.size());
+        assertEquals("report report draft", results.get(0).getDescription());
+        assertEquals("write report", results.get(1).getDescription());
+    }
+
+    @Test
+    public void findTopTasks_tiedScores_newerFirst() {
+        tasks.add(new Todo("report A"));
+        tasks.add(new Todo("report B"));
+
+        TaskList results = tasks.findTopTasks("report", 5);
+
+        assertEquals(2, results.size());
+        assertEquals("report B", results.get(0).getDescription());
+    }
+
+    @Test
+    public void findTopTasks_noMatches_empty() {
+        tasks.add(new Todo("read book"));
+
+        assertEquals(0, tasks.findTopTasks("report", 3).size());
+    }
+
+    @Test
+    public void containsDuplicateOf_nearExactCopy_true() {
+        tasks.add(new Todo("Buy  milk!"));
+        tasks.add(new Deadline("report", "2025-03-01"));
+
+        assertTrue(tasks.containsDuplicateOf(new Todo("buy milk")));
+        assertTrue(tasks.containsDuplicateOf(new Deadline("Report.", "2025-03-01")));
+        assertFalse(tasks.containsDuplicateOf(new Deadline("report", "2025-03-02")));
+        assertFalse(tasks.containsDuplicateOf(new Deadline("buy milk", "2025-03-01")));
+    }
+
+    @Test
+    public void containsDuplicateOf_afterRemoveAndMark_keptUpToDate() {
+        tasks.add(new Todo("buy milk"));
+        assertTrue(tasks.containsDuplicateOf(new Todo("buy milk")));
+
+        tasks.markDone(0);
+        assertTrue(tasks.containsDuplicateOf(new Todo("buy milk")));
+
+        tasks.remove(0);
+        assertFalse(tasks.containsDuplicateOf(new Todo("buy milk")));
+    }
+
+    @Test
+    public void getDuplicateIndices_keepsFirstCopy() {
+        tasks.add(new Todo("buy milk"));
+        tasks.add(new Todo("read book"));
+        tasks.add(new Todo("Buy milk"));
+        tasks.add(new Todo("buy milk."));
+
+        assertArrayEquals(new int[] {2, 3}, tasks.getDuplicateIndices());
+    }
+
+    @Test
+    public void getDuplicateIndices_punctuationInsideText_notDuplicate() {
+        tasks.add(new Todo("learn C"));
+        tasks.add(new Todo("learn C++"));
+        tasks.add(new Todo("learn C#"));
+        tasks.add(new Todo("Learn C#!"));
+
+        assertArrayEquals(new int[] {3}, tasks.getDuplicateIndices());
     }
 }
@@ -0,0 +1,119 @@
+package echo.tasklist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import echo.task.Deadline;
+import echo.task.Event;
+import echo.task.Task;
+import echo.task.Todo;
+
+public class TaskStatsTest {
+    // A Wednesday
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+
+    private TaskList tasks;
+
+    @BeforeEach
+    public void setUp() {
+        tasks = new TaskList();
+        tasks.add(new Todo("read book"));
+        tasks.add(new Deadline("overdue report", "2025-01-10"));
+        tasks.add(new Deadline("today report", "2025-01-15 1800"));
+        tasks.add(new Event("weekend trip", "2025-01-19", "2025-01-20"));
+        tasks.add(new Deadline("month end", "2025-01-31"));
+        tasks.add(new Deadline("next month", "2025-02-03"));
+        tasks.add(new Deadline("someday", "whenever"));
+    }
+
+    @Test
+    public void getSummary_countsByTypeAndDate() {
+        TaskStats.Summary summary = tasks.getStats().getSummary(TODAY);
+
+        assertEquals(7, summary.getTotal());
+        assertEquals(1, summary.getTodos());
+        assertEquals(5, summary.getDeadlines());
+        assertEquals(1, summary.getEvents());
+        assertEquals(0, summary.getDone());
+        assertEquals(1, summary.getOverdue());
+        assertEquals(1, summary.getDueToday());
+        assertEquals(2, summary.getDueThisWeek());
+        assertEquals(3, summary.getDueThisMonth());
+    }
+
+    @Test
+    public void getSummary_afterChanges_keptUpToDate() {
+        TaskStats stats = tasks.getStats();
+        tasks.markDone(1);
+        tasks.remove(2);
+        tasks.add(new Deadline("tomorrow", "2025-01-16"));
+
+        TaskStats.Summary summary = stats.getSummary(TODAY);
+
+        assertEquals(7, summary.getTotal());
+        assertEquals(1, summary.getDone());
+        assertEquals(0, summary.getOverdue());
+        assertEquals(0, summary.getDueToday());
+        assertEquals(2, summary.getDueThisWeek());
+    }
+
+    @Test
+    public void getSummary_unchanged_cached() {
+        TaskStats stats = tasks.getStats();
+
+        assertSame(stats.getSummary(TODAY), stats.getSummary(TODAY));
+        assertEquals(2, stats.getSummary(TODAY.plusDays(1)).getOverdue());
+    }
+
+    @Test
+    public void getSummary_afterUndo_rebuilt() {
+        tasks.commit();
+        TaskStats stats = tasks.getStats();
+        tasks.clear();
+        tasks.commit();
+        assertEquals(0, stats.getSummary(TODAY).getTotal());
+
+        tasks.undo(1);
+
+        assertEquals(7, stats.getSummary(TODAY).getTotal());
+    }
+
+    @Test
+    public void getSummary_changesAcrossDays_matchesRecount() {
+        Random random = new Random(7);
+        TaskStats stats = tasks.getStats();
+        LocalDate day = TODAY;
+        for (int i = 0; i < 3000; i++) {
+            int op = random.nextInt(4);
+            if (op == 0 || tasks.size() == 0) {
+                tasks.add(new Deadline("task " + i, day.plusDays(random.nextInt(80) - 40).toString()));
+            } else if (op == 1) {
+                tasks.remove(random.nextInt(tasks.size()));
+            } else if (op == 2) {
+                tasks.markDone(random.nextInt(tasks.size()));
+            } else {
+                day = day.plusDays(random.nextInt(20) - 3);
+            }
+            if (i % 10 == 0) {
+                List<Task> current = new ArrayList<>();
+                for (int t = 0; t < tasks.size(); t++) {
+                    current.add(tasks.get(t));
+                }
+                TaskStats.Summary expected = new TaskStats(current).getSummary(day);
+                TaskStats.Summary actual = stats.getSummary(day);
+                assertEquals(expected.getOverdue(), actual.getOverdue(), "overdue on " + day);
+                assertEquals(expected.getDueToday(), actual.getDueToday(), "today on " + day);
+                assertEquals(expected.getDueThisWeek(), actual.getDueThisWeek(), "week on " + day);
+                assertEquals(expected.getDueThisMonth(), actual.getDueThisMonth(), "month on " + day);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package echo.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Compares DateTimeParser with parsing through DateTimeFormatter, as it was done before, on a mix
+ * of the dates users type. Each input is parsed the way task constructors do: as a date time,
+ * then as a date if that fails.
+ *
+ * Run with {@code ./gradlew benchmarkDates}.
+ */
+public class DateTimeParserBenchmark {
+    private static final DateTimeFormatter DATETIME_INPUT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final String[] INPUTS = {"2025-01-15 1800", "2025-01-15", "Sunday", "next Monday", "2024-12-25 2359",
+        "tomorrow 2pm", "2024-02-29", "end of month"};
+    private static final int ITERATIONS = 2_000_000;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Runs the benchmark and prints the time per parse for each parser.
+     *
+     * @param args Not used.
+     */
+    public static void main(String[] args) {
+        for (int round = 1; round <= ROUNDS; round++) {
+            long formatterNanos = time(DateTimeParserBenchmark::parseWithFormatter);
+            long parserNanos = time(DateTimeParserBenchmark::parseWithParser);
+            System.out.printf("Round %d: formatter %.1f ns/parse, DateTimeParser %.1f ns/parse (%.1fx)%n", round,
+                    (double) formatterNanos / ITERATIONS, (double) parserNanos / ITERATIONS,
+                    (double) formatterNanos / parserNanos);
+        }
+    }
+
+    private static long time(Parse parse) {
+        long start = System.nanoTime();
+        int parsed = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (parse.run(INPUTS[i % INPUTS.length])) {
+                parsed++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        if (parsed != ITERATIONS / 2) {
+            throw new IllegalStateException("Parsed " + parsed + " inputs, expected " + ITERATIONS / 2);
+        }
+        return elapsed;
+    }
+
+    private static boolean parseWithParser(String text) {
+        return DateTimeParser.parseDateTime(text) != null || DateTimeParser.parseDate(text) != null;
+    }
+
+    private static boolean parseWithFormatter(String text) {
+        try {
+            LocalDateTime.parse(text, DATETIME_INPUT_FORMAT);
+            return true;
+        } catch (DateTimeParseException e) {
+            try {
+                LocalDate.parse(text);
+                return true;
+            } catch (DateTimeParseException e2) {
+                return false;
+            }
+        }
+    }
+
+    private interface Parse {
+        boolean run(String text);
+    }
+}
@@ -0,0 +1,97 @@
+package echo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeParserTest {
+
+    private static final DateTimeFormatter LEGACY_DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    @Test
+    public void parseDateTime_allFieldCombinations_matchesFormatter() {
+        for (String year : new String[]{"0000", "0001", "1900", "2023", "2024", "9999"}) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    for (int hour : new int[]{0, 23, 24, 25}) {
+                        for (int minute : new int[]{0, 59, 60}) {
+                            String text = String.format("%s-%02d-%02d %02d%02d", year, month, day, hour, minute);
+                            assertEquals(parseWithFormatter(text), DateTimeParser.parseDateTime(text), text);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parseDate_allFieldCombinations_matchesLocalDateParse() {
+        for (String year : new String[]{"0000", "1900", "2000", "2023", "2024"}) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    String text = String.format("%s-%02d-%02d", year, month, day);
+                    LocalDate expected;
+                    try {
+                        expected = LocalDate.parse(text);
+                    } catch (DateTimeParseException e) {
+                        expected = null;
+                    }
+                    assertEquals(expected, DateTimeParser.parseDate(text), text);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parseDateTime_lenientDays_sameAsBefore() {
+        assertEquals(LocalDateTime.of(2023, 2, 28, 14, 0), DateTimeParser.parseDateTime("2023-02-31 1400"));
+        assertEquals(LocalDateTime.of(2024, 3, 1, 0, 0), DateTimeParser.parseDateTime("2024-02-29 2400"));
+    }
+
+    @Test
+    public void parseDateTime_newFormats_success() {
+        assertEquals(LocalDateTime.of(2025, 1, 2, 14, 30), DateTimeParser.parseDateTime("2025-01-02T14:30"));
+        assertEquals(LocalDateTime.of(2025, 1, 2, 14, 30), DateTimeParser.parseDateTime("02/01/2025 1430"));
+        assertNull(DateTimeParser.parseDateTime("2025-02-30T14:30"));
+        assertNull(DateTimeParser.parseDateTime("31/04/2025 1430"));
+    }
+
+    @Test
+    public void parseDate_newFormats_success() {
+        assertEquals(LocalDate.of(2025, 1, 2), DateTimeParser.parseDate("02/01/2025"));
+        assertEquals(LocalDate.of(2025, 1, 14), DateTimeParser.parseDate("2025-W03-2"));
+        assertEquals(LocalDate.of(2020, 12, 28), DateTimeParser.parseDate("2020-W53-1"));
+        assertEquals(LocalDate.of(2024, 12, 30), DateTimeParser.parseDate("2025-W01-1"));
+        assertNull(DateTimeParser.parseDate("2025-W53-1"));
+        assertNull(DateTimeParser.parseDate("2025-W03-8"));
+    }
+
+    @Test
+    public void parse_plainText_returnsNull() {
+        for (String text : new String[]{"", "Sunday", "next Monday", "2024-1-01", "2024-01-01 12:00", "1500"}) {
+            assertNull(DateTimeParser.parseDateTime(text), text);
+            assertNull(DateTimeParser.parseDate(text), text);
+        }
+    }
+
+    @Test
+    public void parse_signedYear_matchesFormatter() {
+        assertEquals(LocalDate.parse("+12345-01-01"), DateTimeParser.parseDate("+12345-01-01"));
+        assertEquals(parseWithFormatter("+12345-01-01 1200"), DateTimeParser.parseDateTime("+12345-01-01 1200"));
+        assertNull(DateTimeParser.parseDateTime("-2024-01-01 1200"));
+    }
+
+    private static LocalDateTime parseWithFormatter(String text) {
+        try {
+            return LocalDateTime.parse(text, LEGACY_DATETIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -2,7 +2,9 @@ package echo.util;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -158,4 +160,30 @@ public class InputValidatorTest {
                 EchoException.class, () -> InputValidator.requireMinParts(parts, 3, "All parts required"));
         assertEquals("All parts required", exception.getMessage());
     }
+
+    @Test
+    public void parsePositiveInteger_variousInputs_matchesIntegerParseInt() {
+        String[] inputs = {"1", " 42 ", "+7", "-3", "0", "-0", "007", "", "+", "-", "1a", "1.5", "2147483647",
+            "2147483648", "-2147483648", "-2147483649", "99999999999", "\u0663", "+-1"};
+        for (String input : inputs) {
+            String expected;
+            try {
+                int number = Integer.parseInt(input.trim());
+                expected = number > 0 ? String.valueOf(number) : "Task number must be a positive number.";
+            } catch (NumberFormatException e) {
+                expected = "Task number must be a valid number.";
+            }
+            ParseResult<Integer> result = InputValidator.parsePositiveInteger(input, "Task number");
+            assertEquals(expected, result.isSuccess() ? String.valueOf(result.getValue()) : result.getErrorMessage(),
+                    "Input: '" + input + "'");
+        }
+    }
+
+    @Test
+    public void checkValidTaskIndex_outOfBounds_failureWithoutThrowing() {
+        assertTrue(InputValidator.checkValidTaskIndex(0, 1).isSuccess());
+        ParseResult<Integer> result = InputValidator.checkValidTaskIndex(1, 1);
+        assertFalse(result.isSuccess());
+        assertEquals("Task number doesn't exist. Please provide a number between 1 and 1.", result.getErrorMessage());
+    }
 }
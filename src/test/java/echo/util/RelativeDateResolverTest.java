@@ -0,0 +1,63 @@
+package echo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RelativeDateResolverTest {
+
+    // A Wednesday
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 15);
+
+    private RelativeDateResolver resolver;
+
+    @BeforeEach
+    public void setUp() {
+        resolver = new RelativeDateResolver();
+    }
+
+    @Test
+    public void resolve_todayAndTomorrow_success() {
+        assertEquals("2025-01-15", resolver.resolve("today", TODAY));
+        assertEquals("2025-01-16", resolver.resolve("Tomorrow", TODAY));
+        assertEquals("2025-01-16 1800", resolver.resolve("tomorrow 1800", TODAY));
+    }
+
+    @Test
+    public void resolve_weekdays_nextOccurrence() {
+        assertEquals("2025-01-15", resolver.resolve("wednesday", TODAY));
+        assertEquals("2025-01-15", resolver.resolve("this wed", TODAY));
+        assertEquals("2025-01-22", resolver.resolve("next wed", TODAY));
+        assertEquals("2025-01-17", resolver.resolve("fri", TODAY));
+        assertEquals("2025-01-17", resolver.resolve("next Fri", TODAY));
+        assertEquals("2025-01-20 0900", resolver.resolve("Monday 0900", TODAY));
+        assertEquals("2025-01-16", resolver.resolve("thurs", TODAY));
+    }
+
+    @Test
+    public void resolve_offsetsAndEndOfMonth_success() {
+        assertEquals("2025-01-18", resolver.resolve("in 3 days", TODAY));
+        assertEquals("2025-01-16", resolver.resolve("in 1 day", TODAY));
+        assertEquals("2025-01-29", resolver.resolve("in 2 weeks", TODAY));
+        assertEquals("2025-01-31", resolver.resolve("end of month", TODAY));
+        assertEquals("2024-02-29", resolver.resolve("end of the month", LocalDate.of(2024, 2, 3)));
+    }
+
+    @Test
+    public void resolve_otherText_returnsNull() {
+        for (String text : new String[]{"", "2025-01-01", "next", "in days", "in 3 months", "sunday 2pm",
+            "end of week", "monday 2400", "fridays", "next next fri"}) {
+            assertNull(resolver.resolve(text, TODAY), text);
+        }
+    }
+
+    @Test
+    public void resolve_newDay_resolvesAgain() {
+        assertEquals("2025-01-16", resolver.resolve("tomorrow", TODAY));
+        assertEquals("2025-01-17", resolver.resolve("tomorrow", TODAY.plusDays(1)));
+    }
+}
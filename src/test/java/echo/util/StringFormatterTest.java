@@ -49,6 +49,12 @@ public class StringFormatterTest {
                 + "Now you have 0 tasks in the list.", result);
     }
 
+    @Test
+    public void formatTasksRemoved_multipleTasks_correctFormat() {
+        String result = StringFormatter.formatTasksRemoved(12, 1);
+        assertEquals("Noted. I've removed 12 tasks.\nNow you have 1 task in the list.", result);
+    }
+
     @Test
     public void formatTaskCount_zeroTasks_pluralForm() {
         assertEquals("0 tasks", StringFormatter.formatTaskCount(0));
@@ -0,0 +1,44 @@
+package echo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class StringPoolTest {
+
+    @Test
+    public void intern_equalStrings_sameInstance() {
+        StringPool pool = new StringPool();
+        String first = new String("weekly team sync");
+        String second = new String("weekly team sync");
+
+        assertSame(pool.intern(first), pool.intern(second));
+        assertEquals("weekly team sync", pool.intern(second));
+    }
+
+    @Test
+    public void intern_separatePools_notShared() {
+        String first = new String("water plants");
+        String second = new String("water plants");
+
+        assertNotSame(new StringPool().intern(first), new StringPool().intern(second));
+    }
+
+    @Test
+    public void intern_capacityReached_poolEmptied() {
+        StringPool pool = new StringPool(2);
+        String first = pool.intern(new String("a"));
+        pool.intern("b");
+        pool.intern("c");
+
+        assertNotSame(first, pool.intern(new String("a")));
+    }
+
+    @Test
+    public void intern_null_returnsNull() {
+        assertNull(new StringPool().intern(null));
+    }
+}
@@ -0,0 +1,23 @@
+package echo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class TextFolderTest {
+
+    @Test
+    public void fold_mixedCase_lowercased() {
+        assertEquals("submit report", TextFolder.fold("Submit REPORT"));
+    }
+
+    @Test
+    public void fold_accents_removed() {
+        assertEquals("resume cafe", TextFolder.fold("R\u00e9sum\u00e9 Caf\u00e9"));
+    }
+
+    @Test
+    public void fold_compatibilityCharacters_normalized() {
+        assertEquals("report file", TextFolder.fold("\uff32\uff25\uff30\uff2f\uff32\uff34 \ufb01le"));
+    }
+}